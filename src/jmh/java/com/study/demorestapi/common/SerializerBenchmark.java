@@ -0,0 +1,78 @@
+package com.study.demorestapi.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.events.Event;
+import com.study.demorestapi.events.EventDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 400 응답 본문(ErrorResource + ErrorsSerializer)과 AccountSerializer 를 거치는 이벤트 본문의 직렬화.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    private ObjectWriter writer;
+    private EntityModel<Errors> errorResource;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        Benchmarks.bindRequest();
+        writer = Benchmarks.halObjectMapper().writer();
+
+        final Errors errors = new BeanPropertyBindingResult(EventDto.builder().basePrice(300).maxPrice(200).build(), "eventDto");
+        errors.rejectValue("name", "NotEmpty", "must not be empty");
+        errors.rejectValue("basePrice", "wrong value", "base price is wrong.");
+        errors.rejectValue("maxPrice", "wrong value", "max price is wrong.");
+        errors.reject("time wrong");
+        errorResource = ErrorResource.modelOf(errors);
+
+        event = Event.builder()
+                .id(1)
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .manager(Account.builder().id(1).build())
+                .version(0L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] errors() throws JsonProcessingException {
+        return writer.writeValueAsBytes(errorResource);
+    }
+
+    @Benchmark
+    public byte[] eventWithManager() throws JsonProcessingException {
+        return writer.writeValueAsBytes(event);
+    }
+}
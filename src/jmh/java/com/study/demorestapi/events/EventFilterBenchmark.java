@@ -0,0 +1,153 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.DemoRestApiApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 조건 조회 지연 시간. filtered 는 인덱스를 타는 서버 쪽 필터, clientSideFilter 는 지금 클라이언트가 하는 것처럼
+ * 전체 목록을 페이지로 끝까지 받아서 거르는 경우다. page, slice 는 목록 첫 페이지를 COUNT 와 함께/없이 읽는다.
+ * H2 는 조건 없는 COUNT(*) 를 행 수 캐시로 바로 답하므로 차이는 행 대부분이 맞는 조건(broad)에서 드러난다.
+ * <pre>./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="EventFilterBenchmark -p rows=1000000"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class EventFilterBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private static final int SCAN_PAGE_SIZE = 2_000;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+
+    private final EventFilter filter = EventFilter.builder()
+            .eventStatus(EventStatus.PUBLISHED)
+            .eventFrom(START.plusDays(100))
+            .eventTo(START.plusDays(107))
+            .priceFrom(1_000)
+            .priceTo(5_000)
+            .build();
+
+    private final EventFilter broadFilter = EventFilter.builder()
+            .priceFrom(100)
+            .build();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoRestApiApplication.class)
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        eventRepository = context.getBean(EventRepository.class);
+        insertEvents(context.getBean(JdbcTemplate.class));
+    }
+
+    // JPA 로 100만 건을 넣으면 준비만 몇 분 걸려서 JDBC batch 로 바로 넣는다
+    private void insertEvents(JdbcTemplate jdbcTemplate) {
+        final String sql = "insert into event (id, name, description, begin_enrollment_date_time, close_enrollment_date_time, " +
+                "begin_event_date_time, end_event_date_time, location, base_price, max_price, limit_of_enrollment, " +
+                "offline, free, event_status, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        final EventStatus[] statuses = EventStatus.values();
+        final List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            final LocalDateTime begin = START.plusMinutes(i % (365 * 24 * 60));
+            final int basePrice = (i * 37) % 10_000;
+            batch.add(new Object[]{-i, "event " + i, "benchmark", Timestamp.valueOf(begin.minusDays(30)),
+                    Timestamp.valueOf(begin.minusDays(1)), Timestamp.valueOf(begin), Timestamp.valueOf(begin.plusHours(2)),
+                    i % 3 == 0 ? null : "seoul", basePrice, basePrice * 2, 100, i % 3 != 0, basePrice == 0,
+                    statuses[i % statuses.length].name()});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EventSummary> filtered() {
+        return eventRepository.findSummaries(filter, PageRequest.of(0, 20, Sort.by("beginEventDateTime")));
+    }
+
+    @Benchmark
+    public Page<EventSummary> page() {
+        return eventRepository.findAllSummaries(PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Slice<EventSummary> slice() {
+        return eventRepository.findSummarySlice(PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Page<EventSummary> broadPage() {
+        return eventRepository.findSummaries(broadFilter, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Slice<EventSummary> broadSlice() {
+        return eventRepository.findSummarySlice(broadFilter, PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Benchmark
+    public List<EventSummary> clientSideFilter() {
+        final List<EventSummary> matched = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, SCAN_PAGE_SIZE, Sort.by("id"));
+        Page<EventSummary> page;
+        do {
+            page = eventRepository.findAllSummaries(pageable);
+            matched.addAll(page.getContent().stream().filter(this::matches).collect(Collectors.toList()));
+            pageable = pageable.next();
+        } while (page.hasNext());
+
+        return matched;
+    }
+
+    private boolean matches(EventSummary e) {
+        return e.getEventStatus() == filter.getEventStatus()
+                && !e.getBeginEventDateTime().isBefore(filter.getEventFrom())
+                && e.getBeginEventDateTime().isBefore(filter.getEventTo())
+                && e.getBasePrice() >= filter.getPriceFrom()
+                && e.getBasePrice() <= filter.getPriceTo();
+    }
+}
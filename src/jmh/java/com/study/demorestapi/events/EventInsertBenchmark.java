@@ -0,0 +1,99 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.DemoRestApiApplication;
+import com.study.demorestapi.common.PooledSequenceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * insert/s 비교. allocationSize=1 이 예전 @GeneratedValue(insert 마다 sequence 호출)와 같은 경로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1", "50"})
+    public int allocationSize;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventService eventService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoRestApiApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE + "=" + allocationSize,
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+        eventRepository = context.getBean(EventRepository.class);
+        eventService = context.getBean(EventService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteEvents() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Event insertOne() {
+        return eventService.saveEvent(newEvent(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Event> insertBatch() {
+        return eventService.createEvents(IntStream.range(0, BATCH_SIZE)
+                .mapToObj(EventInsertBenchmark::newEvent)
+                .collect(Collectors.toList()));
+    }
+
+    private static Event newEvent(int i) {
+        final Event event = Event.builder()
+                .name("event " + i)
+                .description("benchmark")
+                .beginEnrollmentDateTime(LocalDateTime.now())
+                .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                .beginEventDateTime(LocalDateTime.now())
+                .endEventDateTime(LocalDateTime.now().plusDays(1))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        event.update();
+        return event;
+    }
+}
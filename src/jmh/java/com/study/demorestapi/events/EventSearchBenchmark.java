@@ -0,0 +1,64 @@
+package com.study.demorestapi.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 색인 조회 지연 시간. rare 는 수십 건, common 은 전체의 1/10 쯤 걸리는 단어다.
+ * 색인 크기 추정치는 준비가 끝나면 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSearchBenchmark {
+
+    private static final String[] TOPICS = {"spring", "jpa", "kotlin", "react", "docker", "kubernetes", "java", "rest",
+            "security", "oauth"};
+    private static final String[] CITIES = {"seoul", "busan", "pangyo", "gangnam", "online"};
+
+    @Param({"300000"})
+    public int events;
+
+    private final EventSearchIndex index = new EventSearchIndex();
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 1; i <= events; i++) {
+            final String topic = TOPICS[random.nextInt(TOPICS.length)];
+            index.put(i, topic + " study " + i, "weekly " + topic + " meetup tag" + random.nextInt(10_000),
+                    CITIES[random.nextInt(CITIES.length)]);
+        }
+        System.out.println(index.footprint());
+    }
+
+    @Benchmark
+    public EventSearchIndex.Hits rare() {
+        return index.search("tag1234", 0, 20);
+    }
+
+    @Benchmark
+    public EventSearchIndex.Hits common() {
+        return index.search("spring", 0, 20);
+    }
+
+    @Benchmark
+    public EventSearchIndex.Hits twoTerms() {
+        return index.search("kotlin pangyo", 0, 20);
+    }
+}
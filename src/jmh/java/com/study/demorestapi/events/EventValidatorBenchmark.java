@@ -0,0 +1,69 @@
+package com.study.demorestapi.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventValidator.validate. 컨트롤러처럼 요청마다 새 BindingResult 를 만든다.
+ * invalid 는 가격과 기간이 모두 틀려 에러 세 개를 만드는 경우다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventValidatorBenchmark {
+
+    private final EventValidator eventValidator = new EventValidator();
+
+    private EventDto valid;
+    private EventDto invalid;
+
+    @Setup
+    public void setUp() {
+        valid = eventDto(100, LocalDateTime.of(2018, 11, 26, 14, 21));
+        invalid = eventDto(300, LocalDateTime.of(2018, 11, 24, 14, 21));
+    }
+
+    private static EventDto eventDto(int basePrice, LocalDateTime endEventDateTime) {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(endEventDateTime)
+                .basePrice(basePrice)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+    }
+
+    @Benchmark
+    public Errors valid() {
+        final Errors errors = new BeanPropertyBindingResult(valid, "eventDto");
+        eventValidator.validate(valid, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors invalid() {
+        final Errors errors = new BeanPropertyBindingResult(invalid, "eventDto");
+        eventValidator.validate(invalid, errors);
+        return errors;
+    }
+}
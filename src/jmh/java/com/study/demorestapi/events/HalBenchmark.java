@@ -0,0 +1,114 @@
+package com.study.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.study.demorestapi.common.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * HAL 응답 만들기. 링크 생성(linkTo)과 직렬화를 따로 잰다.
+ * page 는 목록 조회 한 페이지(EventSummary 20개, 항목마다 self 링크, 페이지 링크와 profile)다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectWriter writer;
+    private Event event;
+    private EventResource eventResource;
+    private PagedModel<EntityModel<EventSummary>> page;
+
+    @Setup
+    public void setUp() {
+        Benchmarks.bindRequest();
+        writer = Benchmarks.halObjectMapper().writer();
+
+        event = Event.builder()
+                .id(1)
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .eventStatus(EventStatus.PUBLISHED)
+                .version(0L)
+                .build();
+        eventResource = new EventResource(event);
+        eventResource.add(linkTo(EventController.class).withRel("query-events"));
+        eventResource.add(Link.of("docs/index.html#resources-events-get").withRel("profile"));
+
+        final List<EntityModel<EventSummary>> content = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new EventSummary(i, "event " + i, "test " + i,
+                        event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime(),
+                        event.getBeginEventDateTime(), event.getEndEventDateTime(), event.getLocation(),
+                        100, 200, 100, true, false, EventStatus.PUBLISHED, 1, 0L))
+                .map(e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()))
+                .collect(Collectors.toList());
+        final String base = linkTo(EventController.class).toUri().toString();
+        page = PagedModel.of(content, new PagedModel.PageMetadata(PAGE_SIZE, 1, 1000),
+                Link.of(base + "?page=0&size=20").withRel(IanaLinkRelations.FIRST),
+                Link.of(base + "?page=0&size=20").withRel(IanaLinkRelations.PREV),
+                Link.of(base + "?page=1&size=20").withSelfRel(),
+                Link.of(base + "?page=2&size=20").withRel(IanaLinkRelations.NEXT),
+                Link.of(base + "?page=49&size=20").withRel(IanaLinkRelations.LAST),
+                Link.of("docs/index.html#resources-events-list").withRel("profile"));
+    }
+
+    @Benchmark
+    public Link linkToController() {
+        return linkTo(EventController.class).slash(event.getId()).withSelfRel();
+    }
+
+    @Benchmark
+    public WebMvcLinkBuilder linkToControllerOnly() {
+        return linkTo(EventController.class);
+    }
+
+    @Benchmark
+    public EventResource eventResource() {
+        return new EventResource(event);
+    }
+
+    @Benchmark
+    public byte[] serializeEventResource() throws JsonProcessingException {
+        return writer.writeValueAsBytes(eventResource);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
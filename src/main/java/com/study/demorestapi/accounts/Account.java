@@ -1,20 +1,38 @@
 package com.study.demorestapi.accounts;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
+import java.io.Serializable;
 import java.util.Set;
 
+/**
+ * id 로 읽는 계정과 roles 는 Hibernate 2차 캐시(account, account-roles 영역)에 둔다. 저장하면 커밋 때 Hibernate 가 영역을 갱신한다.
+ * 이메일로 찾는 로그인 경로는 쿼리라 2차 캐시를 타지 않고 스프링 캐시(AccountService.ACCOUNTS_CACHE)를 쓴다.
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @ToString @Builder @AllArgsConstructor @NoArgsConstructor
-public class Account {
-    @Id @GeneratedValue
+public class Account implements Serializable {
+    // 토큰 저장소(JpaTokenStore)가 principal 로 직렬화해 둔다. 필드를 바꿔도 저장된 토큰을 읽을 수 있게 고정
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(generator = "account_seq")
+    @GenericGenerator(name = "account_seq", strategy = "com.study.demorestapi.common.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "account_seq"))
     private Integer id;
     private String email;
     private String password;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account-roles")
     @Enumerated(EnumType.STRING)
     private Set<AccountRole> roles;
 }
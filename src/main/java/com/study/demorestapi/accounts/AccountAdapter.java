@@ -5,11 +5,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class AccountAdapter extends User {
 
+    private static final long serialVersionUID = 1L;
+
     private Account account;
 
     public AccountAdapter(Account account) {
@@ -17,6 +20,25 @@ public class AccountAdapter extends User {
         this.account = account;
     }
 
+    private AccountAdapter(Account account, Collection<? extends GrantedAuthority> authorities) {
+        super(account.getEmail(), "", authorities);
+        eraseCredentials();
+        this.account = account;
+    }
+
+    /**
+     * 토큰 저장소처럼 principal 을 직렬화해 남길 때 쓴다. User 와 Account 양쪽에서 비밀번호 해시를 뺀다.
+     */
+    public AccountAdapter withoutCredentials() {
+        final Account copy = Account.builder()
+                .id(account.getId())
+                .email(account.getEmail())
+                .roles(account.getRoles() == null || account.getRoles().isEmpty()
+                        ? EnumSet.noneOf(AccountRole.class) : EnumSet.copyOf(account.getRoles()))
+                .build();
+        return new AccountAdapter(copy, getAuthorities());
+    }
+
     private static Collection<? extends GrantedAuthority> getAuthorities(Set<AccountRole> roles) {
         return roles.stream().map(r -> new SimpleGrantedAuthority("ROLE_" + r.name())).collect(Collectors.toSet());
     }
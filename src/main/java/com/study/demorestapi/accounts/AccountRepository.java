@@ -1,9 +1,17 @@
 package com.study.demorestapi.accounts;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Integer> {
+    @EntityGraph(attributePaths = "roles")
     Optional<Account> findByEmail(String username);
+
+    // 로그인(토큰 발급) 경로 전용. 없는 계정은 캐시하지 않고, AccountService.saveAccount 가 비운다
+    @Cacheable(cacheNames = AccountService.ACCOUNTS_CACHE, unless = "#result == null")
+    @EntityGraph(attributePaths = "roles")
+    Optional<Account> findWithRolesByEmail(String email);
 }
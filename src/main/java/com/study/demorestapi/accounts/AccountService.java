@@ -1,6 +1,9 @@
 package com.study.demorestapi.accounts;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -9,12 +12,20 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class AccountService implements UserDetailsService {
+
+    public static final String ACCOUNTS_CACHE = "accounts";
+
     @Autowired
     private AccountRepository accountRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 이메일이 바뀌었을 수도 있어서 키 하나가 아니라 전부 비운다. 계정 저장은 드물다
+    @CacheEvict(cacheNames = ACCOUNTS_CACHE, allEntries = true)
     public Account saveAccount(Account account) {
         account.setPassword(passwordEncoder.encode(account.getPassword()));
         return accountRepository.save(account);
@@ -22,7 +33,17 @@ public class AccountService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        final Account account = accountRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
-        return new AccountAdapter(account);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "found";
+        try {
+            final Account account = accountRepository.findWithRolesByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
+            // 인증이 끝나면 eraseCredentials 로 비밀번호를 지우므로 캐시된 Account 를 감싼 새 객체를 매번 만든다
+            return new AccountAdapter(account);
+        } catch (UsernameNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("accounts.load-user", "outcome", outcome));
+        }
     }
 }
@@ -5,7 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
 
 @Component
 @ConfigurationProperties(prefix = "my-app")
@@ -23,4 +27,29 @@ public class AppProperties {
     private String clientId;
     @NotEmpty
     private String clientSecret;
+    @Positive
+    private long tokenStoreMaximumSize = 100_000;
+    // memory | jwt | jdbc
+    @NotEmpty
+    private String tokenStore = "memory";
+    // jdbc 저장소의 노드별 near-cache 유지 시간. 다른 노드의 폐기가 늦게 보일 수 있는 최대 시간이다
+    private Duration tokenNearCacheTtl = Duration.ofSeconds(5);
+    // 비밀번호 해시 전용 스레드 수와 대기열 크기. 넘치면 503
+    @Positive
+    private int passwordEncoderThreads = Runtime.getRuntime().availableProcessors();
+    @Positive
+    private int passwordEncoderQueueCapacity = 64;
+    private Duration passwordEncoderTimeout = Duration.ofSeconds(5);
+    // 가져오기: 한 트랜잭션에 저장하는 건수, 검증 스레드 수, 파싱과 저장 사이에 쌓아둘 수 있는 chunk 수
+    @Positive
+    private int importChunkSize = 500;
+    @Positive
+    private int importParallelism = Runtime.getRuntime().availableProcessors();
+    @Positive
+    private int importQueueCapacity = 4;
+    // 단계별 요청 시간: Server-Timing 응답 헤더 여부, 로그로 남길 요청 비율(0~1)과 항상 남길 느린 요청 기준
+    private boolean serverTimingHeader = true;
+    @DecimalMin("0.0") @DecimalMax("1.0")
+    private double requestTraceSampleRate = 0.0;
+    private Duration requestTraceSlowThreshold = Duration.ofSeconds(1);
 }
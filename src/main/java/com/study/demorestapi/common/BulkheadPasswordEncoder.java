@@ -0,0 +1,104 @@
+package com.study.demorestapi.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * bcrypt 해시/검증을 요청 스레드가 아니라 크기가 정해진 전용 스레드풀에서 돌린다.
+ * 동시에 해시하는 수는 threads, 기다리는 수는 queueCapacity 를 넘지 않고, 넘치면 기다리지 않고 바로 PasswordEncoderBusyException.
+ * 로그인이 몰려도 CPU 와 톰캣 스레드가 해시에 다 묶이지 않아 다른 요청은 계속 처리된다.
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor threadPool;
+
+    private final ExecutorService executor;
+
+    private final Duration timeout;
+
+    private final MeterRegistry registry;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+                                   MeterRegistry registry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.registry = registry;
+        this.threadPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-encoder-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.queued, executor.active, executor(실행 시간), executor.idle(큐 대기 시간)
+        this.executor = ExecutorServiceMetrics.monitor(registry, threadPool, "password.encoder");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> task) {
+        final Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.HASH)) {
+            final Future<T> future = executor.submit(task);
+            try {
+                return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                outcome = "timeout";
+                throw new PasswordEncoderBusyException("password " + operation + " timed out", e);
+            }
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+            throw new PasswordEncoderBusyException("password encoder queue is full", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            throw new PasswordEncoderBusyException("interrupted while waiting for password " + operation, e);
+        } catch (ExecutionException e) {
+            outcome = "error";
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // 큐 대기 + 해시 시간. 요청 스레드가 실제로 기다린 시간이다
+            sample.stop(registry.timer("password.encoder.latency", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    int queued() {
+        return threadPool.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.demorestapi.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.security.oauth2.provider.error.DefaultWebResponseExceptionTranslator;
+
+/**
+ * 비밀번호 검증 executor 가 가득 차서 토큰을 못 준 경우 500 대신 503 temporarily_unavailable (RFC 6749 4.1.2.1).
+ */
+public class BusyAwareWebResponseExceptionTranslator extends DefaultWebResponseExceptionTranslator {
+
+    @Override
+    public ResponseEntity<OAuth2Exception> translate(Exception e) throws Exception {
+        if (!PasswordEncoderBusyException.isCause(e)) {
+            return super.translate(e);
+        }
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+        headers.set(HttpHeaders.PRAGMA, "no-cache");
+        headers.set(HttpHeaders.RETRY_AFTER, PasswordEncoderBusyFilter.RETRY_AFTER_SECONDS);
+
+        return new ResponseEntity<>(new TemporarilyUnavailableException(e.getMessage()), headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private static class TemporarilyUnavailableException extends OAuth2Exception {
+
+        TemporarilyUnavailableException(String msg) {
+            super(msg);
+        }
+
+        @Override
+        public String getOAuth2ErrorCode() {
+            return "temporarily_unavailable";
+        }
+
+        @Override
+        public int getHttpErrorCode() {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.demorestapi.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * http.server.requests 에 처리한 핸들러 메서드(handler=EventController.queryEvents)를 태그로 붙인다.
+ * uri 태그만으로는 같은 경로를 파라미터로 나눠 쓰는 핸들러(목록/커서, 토큰 발급 grant)를 구분할 수 없다.
+ * 핸들러를 찾기 전에 끝난 요청(인증 실패, 정적 리소스)은 none.
+ */
+public class HandlerMethodTagsContributor implements WebMvcTagsContributor {
+
+    static final String TAG = "handler";
+
+    private static final Tag NONE = Tag.of(TAG, "none");
+
+    @Override
+    public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                 Throwable exception) {
+        if (!(handler instanceof HandlerMethod)) {
+            return Tags.of(NONE);
+        }
+
+        final HandlerMethod method = (HandlerMethod) handler;
+        return Tags.of(TAG, method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+    }
+
+    @Override
+    public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+        return Tags.empty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.demorestapi.common;
+
+/**
+ * 비밀번호 해시 executor 가 가득 찼거나 제한 시간 안에 끝나지 않음. 인증 실패가 아니라 503 으로 응답한다.
+ * AuthenticationException 이 아니어야 시큐리티 필터/ProviderManager 가 401 로 바꾸지 않고 그대로 올려 보낸다.
+ */
+public class PasswordEncoderBusyException extends RuntimeException {
+
+    public PasswordEncoderBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static boolean isCause(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof PasswordEncoderBusyException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.demorestapi.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 시큐리티 필터(클라이언트 secret 검증)나 컨트롤러(계정 저장)에서 올라온 PasswordEncoderBusyException 을 503 으로 바꾼다.
+ * 토큰 엔드포인트 안에서 난 것은 BusyAwareWebResponseExceptionTranslator 가 처리한다.
+ */
+public class PasswordEncoderBusyFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            if (!PasswordEncoderBusyException.isCause(e) || response.isCommitted()) {
+                throw e;
+            }
+
+            response.resetBuffer();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"temporarily_unavailable\"}");
+        }
+    }
+}
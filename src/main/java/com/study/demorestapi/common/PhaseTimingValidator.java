@@ -0,0 +1,33 @@
+package com.study.demorestapi.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * @Valid, @Validated 로 도는 bean validation 을 RequestTiming 의 validation 단계로 센다.
+ */
+@RequiredArgsConstructor
+public class PhaseTimingValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.VALIDATION)) {
+            delegate.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.VALIDATION)) {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.demorestapi.common;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 모든 Spring Data 리포지토리 호출(조각 구현 포함)을 RequestTiming 의 db 단계로 센다.
+ * 트랜잭션 커밋 때의 flush 나 지연 로딩처럼 리포지토리를 거치지 않는 SQL 은 감싼 단계(app 등)로 들어간다.
+ */
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    private static final MethodInterceptor TIMING = invocation -> {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.DB)) {
+            return invocation.proceed();
+        }
+    };
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+            ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(TIMING)));
+        }
+        return bean;
+    }
+}
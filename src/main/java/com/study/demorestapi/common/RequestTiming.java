@@ -0,0 +1,160 @@
+package com.study.demorestapi.common;
+
+/**
+ * 요청 하나의 단계별 시간. 요청 스레드에만 묶여 있고(ThreadLocal) 락도 할당도 없이 System.nanoTime 두 번으로 단계를 센다.
+ * 단계는 스택처럼 겹칠 수 있고 시간은 가장 안쪽 단계에만 더한다(검증 중 DB 조회는 db 로만 센다).
+ * ServerTimingFilter 가 요청마다 열고 닫으며, 필터 밖(다른 스레드, 시작 시점)에서 phase() 는 아무 일도 하지 않는다.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        SECURITY, HASH, VALIDATION, MAPPING, DB, SERIALIZATION, APP;
+
+        final String metricName = name().toLowerCase();
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Scope NOOP = () -> { };
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_DEPTH = 16;
+
+    private final long started = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final Phase[] stack = new Phase[MAX_DEPTH];
+    private final Scope exit = this::exit;
+    private int depth;
+    private int overflow;
+    private long mark = started;
+    private long total = -1;
+
+    private RequestTiming() {
+        // 핸들러에 닿기 전까지는 시큐리티 필터 체인
+        stack[depth++] = Phase.SECURITY;
+    }
+
+    static RequestTiming begin() {
+        final RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * try-with-resources 로 감싼 구간을 phase 로 센다.
+     */
+    public static Scope phase(Phase phase) {
+        final RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return NOOP;
+        }
+
+        timing.enter(phase);
+        return timing.exit;
+    }
+
+    private void enter(Phase phase) {
+        if (depth == MAX_DEPTH) {
+            overflow++;
+            return;
+        }
+
+        charge(System.nanoTime());
+        stack[depth++] = phase;
+    }
+
+    private void exit() {
+        if (overflow > 0) {
+            overflow--;
+            return;
+        }
+
+        if (depth > 1) {
+            charge(System.nanoTime());
+            depth--;
+        }
+    }
+
+    /**
+     * 시큐리티 필터를 지나 핸들러 인터셉터에 닿았다. 이후 따로 세지 않는 시간은 app 이다.
+     */
+    void handlerStarted() {
+        charge(System.nanoTime());
+        stack[0] = Phase.APP;
+    }
+
+    /**
+     * 컨버터가 본문을 쓰기 시작했다. 쓰기는 ResponseBodyAdvice 를 떠난 뒤에 일어나 try 로 감쌀 수 없으므로
+     * Scope 없이 열어만 두고 handlerCompleted 가 닫는다. 쓰는 도중 열리는 단계(지연 로딩 db 등)는 그 안에 겹친다.
+     */
+    void serializationStarted() {
+        enter(Phase.SERIALIZATION);
+    }
+
+    /**
+     * 핸들러와 응답 쓰기가 끝났다. serializationStarted 로 열어 둔 단계와, 예외로 빠져나와 닫히지 않은 단계를
+     * 모두 여기서 닫고 app 으로 돌아간다.
+     */
+    void handlerCompleted() {
+        charge(System.nanoTime());
+        depth = 1;
+        overflow = 0;
+    }
+
+    void stop() {
+        final long now = System.nanoTime();
+        charge(now);
+        total = now - started;
+    }
+
+    private void charge(long now) {
+        nanos[stack[depth - 1].ordinal()] += now - mark;
+        mark = now;
+    }
+
+    long total() {
+        return total;
+    }
+
+    long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Server-Timing 헤더 값. 0 인 단계는 빼고, stop() 전이면 total 도 뺀다.
+     */
+    String header() {
+        final StringBuilder builder = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (nanos[phase.ordinal()] > 0) {
+                append(builder, phase.metricName, nanos[phase.ordinal()]);
+            }
+        }
+
+        if (total >= 0) {
+            append(builder, "total", total);
+        }
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String name, long nanos) {
+        if (builder.length() > 0) {
+            builder.append(", ");
+        }
+
+        // ms, 소수점 둘째 자리까지
+        builder.append(name).append(";dur=").append(Math.round(nanos / 10_000d) / 100d);
+    }
+}
@@ -0,0 +1,131 @@
+package com.study.demorestapi.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 RequestTiming 을 열고 끝나면 Server-Timing 헤더로 내보낸다. 시큐리티 필터 체인보다 바깥에 둔다.
+ * 컨버터가 본문을 쓰고 바로 flush 하면 응답이 커밋되어 헤더를 더 붙일 수 없으므로, 요청이 끝날 때까지 명시적인 flush 는 미룬다.
+ * 본문이 응답 버퍼보다 커서 그 전에 커밋된 응답은 ServerTimingResponseBodyAdvice 가 쓰기 직전에 남긴 값(serialization, total 제외)이 나간다.
+ * 느린 요청(slowThreshold 이상)과 sampleRate 비율의 요청은 단계별 시간을 로그로도 남긴다.
+ * 비동기로 넘어간 요청(내보내기)은 요청 스레드를 떠난 뒤를 셀 수 없어 건너뛰고 flush 도 그대로 보낸다.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean header;
+
+    private final double sampleRate;
+
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(boolean header, double sampleRate, Duration slowThreshold) {
+        this.header = header;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final RequestTiming timing = RequestTiming.begin();
+        try {
+            filterChain.doFilter(request, new DeferredFlushResponse(request, response));
+        } finally {
+            RequestTiming.end();
+            if (!request.isAsyncStarted()) {
+                timing.stop();
+                if (header && !response.isCommitted()) {
+                    response.setHeader(SERVER_TIMING, timing.header());
+                }
+
+                if (log.isInfoEnabled() && (timing.total() >= slowThresholdNanos
+                        || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+                    log.info("{} {} {} {}", request.getMethod(), request.getRequestURI(), response.getStatus(),
+                            timing.header());
+                }
+            }
+        }
+    }
+
+    private static class DeferredFlushResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private ServletOutputStream outputStream;
+
+        DeferredFlushResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (request.isAsyncStarted()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DeferredFlushOutputStream(request, super.getOutputStream());
+            }
+            return outputStream;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class DeferredFlushOutputStream extends ServletOutputStream {
+
+        private final HttpServletRequest request;
+
+        private final ServletOutputStream delegate;
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (request.isAsyncStarted()) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
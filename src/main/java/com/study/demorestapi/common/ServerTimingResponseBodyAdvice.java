@@ -0,0 +1,43 @@
+package com.study.demorestapi.common;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 핸들러가 돌려준 본문을 컨버터(HAL/Jackson)가 쓰기 직전. 여기서부터 afterCompletion 까지를 serialization 으로 센다.
+ * 쓰는 도중 응답이 커밋될 수 있으므로 그때까지의 Server-Timing 을 미리 넣어 둔다. 커밋되지 않으면 필터가 전체 값으로 덮어쓴다.
+ * my-app.server-timing-header 가 꺼져 있으면 단계만 세고 헤더는 넣지 않는다.
+ */
+@ControllerAdvice
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean header;
+
+    public ServerTimingResponseBodyAdvice(AppProperties properties) {
+        this.header = properties.isServerTimingHeader();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        final RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.serializationStarted();
+            if (header) {
+                response.getHeaders().set(ServerTimingFilter.SERVER_TIMING, timing.header());
+            }
+        }
+        return body;
+    }
+}
@@ -1,19 +1,32 @@
 package com.study.demorestapi.configs;
 
 import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountRepository;
 import com.study.demorestapi.accounts.AccountRole;
 import com.study.demorestapi.accounts.AccountService;
 import com.study.demorestapi.common.AppProperties;
+import com.study.demorestapi.common.BulkheadPasswordEncoder;
+import com.study.demorestapi.common.HandlerMethodTagsContributor;
+import com.study.demorestapi.common.PasswordEncoderBusyFilter;
+import com.study.demorestapi.common.RepositoryTimingPostProcessor;
+import com.study.demorestapi.common.ServerTimingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.modelmapper.ModelMapper;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Set;
 
 @Configuration
+@EnableCaching
+@EnableScheduling
 public class AppConfig {
     @Bean
     public ModelMapper modelMapper() {
@@ -21,28 +34,65 @@ public class AppConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppProperties properties, MeterRegistry meterRegistry) {
+        return new BulkheadPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                properties.getPasswordEncoderThreads(), properties.getPasswordEncoderQueueCapacity(),
+                properties.getPasswordEncoderTimeout(), meterRegistry);
     }
 
+    // 시큐리티 필터 체인 바깥에서 감싸야 클라이언트 secret 검증 중에 난 것도 잡힌다
     @Bean
-    public ApplicationRunner applicationRunner(AccountService accountService, AppProperties properties) {
+    public FilterRegistrationBean<PasswordEncoderBusyFilter> passwordEncoderBusyFilter() {
+        final FilterRegistrationBean<PasswordEncoderBusyFilter> registration =
+                new FilterRegistrationBean<>(new PasswordEncoderBusyFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    // 503 으로 바뀐 요청까지 세도록 PasswordEncoderBusyFilter 보다도 바깥
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(AppProperties properties) {
+        final FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(properties.isServerTimingHeader(), properties.getRequestTraceSampleRate(),
+                        properties.getRequestTraceSlowThreshold()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+
+    @Bean
+    public static RepositoryTimingPostProcessor repositoryTimingPostProcessor() {
+        return new RepositoryTimingPostProcessor();
+    }
+
+    @Bean
+    public HandlerMethodTagsContributor handlerMethodTagsContributor() {
+        return new HandlerMethodTagsContributor();
+    }
+
+    // 같은 DB를 쓰는 노드가 여럿이어도 계정이 한 번만 만들어지도록 이미 있으면 건너뛴다
+    @Bean
+    public ApplicationRunner applicationRunner(AccountService accountService, AccountRepository accountRepository,
+                                               AppProperties properties) {
         return args -> {
-            Account admin = Account.builder()
-                    .email(properties.getAdminUsername())
-                    .password(properties.getAdminPassword())
-                    .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
-                    .build();
+            if (accountRepository.findByEmail(properties.getAdminUsername()).isEmpty()) {
+                Account admin = Account.builder()
+                        .email(properties.getAdminUsername())
+                        .password(properties.getAdminPassword())
+                        .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                        .build();
 
-            accountService.saveAccount(admin);
+                accountService.saveAccount(admin);
+            }
 
-            Account user = Account.builder()
-                    .email(properties.getUserUsername())
-                    .password(properties.getUserPassword())
-                    .roles(Set.of(AccountRole.USER))
-                    .build();
+            if (accountRepository.findByEmail(properties.getUserUsername()).isEmpty()) {
+                Account user = Account.builder()
+                        .email(properties.getUserUsername())
+                        .password(properties.getUserPassword())
+                        .roles(Set.of(AccountRole.USER))
+                        .build();
 
-            accountService.saveAccount(user);
+                accountService.saveAccount(user);
+            }
         };
     }
 }
@@ -2,7 +2,10 @@ package com.study.demorestapi.configs;
 
 import com.study.demorestapi.accounts.AccountService;
 import com.study.demorestapi.common.AppProperties;
+import com.study.demorestapi.common.BusyAwareWebResponseExceptionTranslator;
+import com.study.demorestapi.common.ServerTimingInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -12,6 +15,7 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.E
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 @RequiredArgsConstructor
 @Configuration
@@ -23,6 +27,7 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     private final AccountService accountService;
     private final TokenStore tokenStore;
     private final AppProperties properties;
+    private final ObjectProvider<JwtAccessTokenConverter> accessTokenConverter;
 
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
@@ -44,6 +49,10 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     public void configure(AuthorizationServerEndpointsConfigurer endpoints) throws Exception {
         endpoints.authenticationManager(authenticationManager)
                 .userDetailsService(accountService)
-                .tokenStore(tokenStore);
+                .tokenStore(tokenStore)
+                .exceptionTranslator(new BusyAwareWebResponseExceptionTranslator())
+                // 토큰 엔드포인트는 WebMvcConfigurer 인터셉터가 붙지 않는 별도 핸들러 매핑을 쓴다
+                .addInterceptor(new ServerTimingInterceptor());
+        accessTokenConverter.ifAvailable(endpoints::accessTokenConverter);
     }
 }
@@ -23,6 +23,8 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
                 .and()
             .authorizeRequests()
                 .mvcMatchers(HttpMethod.GET, "/api/**").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .mvcMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             .and()
             .exceptionHandling()
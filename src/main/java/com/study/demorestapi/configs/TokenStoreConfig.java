@@ -0,0 +1,69 @@
+package com.study.demorestapi.configs;
+
+import com.study.demorestapi.common.AppProperties;
+import com.study.demorestapi.tokens.AccountUserAuthenticationConverter;
+import com.study.demorestapi.tokens.CachingJwtTokenStore;
+import com.study.demorestapi.tokens.CaffeineTokenStore;
+import com.study.demorestapi.tokens.JpaTokenStore;
+import com.study.demorestapi.tokens.StoredAccessTokenRepository;
+import com.study.demorestapi.tokens.StoredRefreshTokenRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * my-app.token-store 로 토큰 저장 방식을 고른다. memory(기본), jwt, jdbc.
+ * 토큰 저장소 빈은 MeterBinder 이기도 해서 MeterRegistry 초기화 때 만들어진다. 보안 설정과 엮이지 않도록 따로 둔다.
+ */
+@Configuration
+public class TokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-store", havingValue = "memory", matchIfMissing = true)
+    public CaffeineTokenStore tokenStore(AppProperties properties) {
+        return new CaffeineTokenStore(properties.getTokenStoreMaximumSize());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "my-app", name = "token-store", havingValue = "jwt")
+    static class JwtTokenStoreConfig {
+
+        // 기동할 때마다 새 키를 만든다. 재시작하면 이전에 발급한 토큰은 모두 무효가 된다
+        @Bean
+        public JwtAccessTokenConverter accessTokenConverter() throws NoSuchAlgorithmException {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+
+            final DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+            accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+            final JwtAccessTokenConverter converter = new JwtAccessTokenConverter();
+            converter.setKeyPair(generator.generateKeyPair());
+            converter.setAccessTokenConverter(accessTokenConverter);
+            return converter;
+        }
+
+        @Bean
+        public CachingJwtTokenStore tokenStore(JwtAccessTokenConverter accessTokenConverter, AppProperties properties) {
+            return new CachingJwtTokenStore(accessTokenConverter, properties.getTokenStoreMaximumSize());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "my-app", name = "token-store", havingValue = "jdbc")
+    static class JdbcTokenStoreConfig {
+
+        @Bean
+        public JpaTokenStore tokenStore(StoredAccessTokenRepository accessTokenRepository,
+                                        StoredRefreshTokenRepository refreshTokenRepository,
+                                        AppProperties properties) {
+            return new JpaTokenStore(accessTokenRepository, refreshTokenRepository,
+                    properties.getTokenStoreMaximumSize(), properties.getTokenNearCacheTtl());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.demorestapi.configs;
+
+import com.study.demorestapi.common.PhaseTimingValidator;
+import com.study.demorestapi.common.ServerTimingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.validation.Validator;
+
+@RequiredArgsConstructor
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Validator validator;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingInterceptor());
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new PhaseTimingValidator(new SpringValidatorAdapter(validator));
+    }
+}
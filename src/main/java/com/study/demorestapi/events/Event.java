@@ -1,9 +1,13 @@
 package com.study.demorestapi.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.study.demorestapi.accounts.Account;
 import com.study.demorestapi.accounts.AccountSerializer;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -16,9 +20,20 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = "id")
 @Builder
 @Entity
+// free, offline 은 값이 두 개뿐이라 인덱스를 두지 않고 다른 조건으로 좁힌 뒤에 거른다
+@Table(indexes = {
+        @Index(name = "idx_event_name_id", columnList = "name, id"),
+        @Index(name = "idx_event_status_begin_event", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "idx_event_begin_event", columnList = "beginEventDateTime"),
+        @Index(name = "idx_event_begin_enrollment", columnList = "beginEnrollmentDateTime"),
+        @Index(name = "idx_event_base_price", columnList = "basePrice"),
+        @Index(name = "idx_event_manager_id", columnList = "manager_id, id")
+})
 public class Event {
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "event_seq")
+    @GenericGenerator(name = "event_seq", strategy = "com.study.demorestapi.common.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "event_seq"))
     private Integer id;
     private String name;
     private String description;
@@ -35,8 +50,13 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
 
-    @ManyToOne
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonSerialize(using = AccountSerializer.class)
+    @ToString.Exclude
     private Account manager;
 
     public void update() {
@@ -45,5 +65,10 @@ public class Event {
         // isBlank java 11에 추
         offline = location != null && !location.isBlank();
     }
+
+    // manager 프록시를 초기화하지 않도록 id만 비교
+    public boolean isManagedBy(Account account) {
+        return manager != null && account != null && manager.getId().equals(account.getId());
+    }
 }
 
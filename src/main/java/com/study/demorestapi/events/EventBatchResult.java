@@ -0,0 +1,21 @@
+package com.study.demorestapi.events;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Value
+public class EventBatchResult {
+    int count;
+    List<Integer> ids;
+    long elapsedMillis;
+    double itemsPerSecond;
+
+    public static EventBatchResult of(List<Event> events, long elapsedNanos) {
+        final List<Integer> ids = events.stream().map(Event::getId).collect(Collectors.toList());
+        final double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+
+        return new EventBatchResult(ids.size(), ids, elapsedNanos / 1_000_000, ids.size() / seconds);
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.common.RequestTiming;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 요청 본문이 여러 건일 때 @Valid 대신 항목마다 bean validation + EventValidator를 돌린다.
+ * 에러는 "[인덱스].필드" 형태로 하나의 Errors에 모아서 기존 에러 응답과 같은 모양으로 내보낸다.
+ */
+@Component
+public class EventBatchValidator {
+
+    private final SpringValidatorAdapter validator;
+
+    private final EventValidator eventValidator;
+
+    public EventBatchValidator(Validator validator, EventValidator eventValidator) {
+        this.validator = new SpringValidatorAdapter(validator);
+        this.eventValidator = eventValidator;
+    }
+
+    public Errors validate(EventDto eventDto) {
+        // [{...}, null] 이나 NDJSON 의 null 줄. bean validation 에 null 을 넘기면 IllegalArgumentException
+        if (eventDto == null) {
+            final Errors errors = new MapBindingResult(new HashMap<>(), "eventDto");
+            errors.reject("NotNull", "must not be null");
+            return errors;
+        }
+
+        final BindingResult errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        validator.validate(eventDto, errors);
+
+        // EventValidator는 날짜가 null이면 NPE가 나므로 bean validation을 통과한 경우만
+        if (!errors.hasErrors()) {
+            eventValidator.validate(eventDto, errors);
+        }
+
+        return errors;
+    }
+
+    public Errors validate(List<EventDto> eventDtos) {
+        final BindingResult errors = new MapBindingResult(new HashMap<>(), "eventDtos");
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.VALIDATION)) {
+            for (int i = 0; i < eventDtos.size(); i++) {
+                addItemErrors(errors, i, validate(eventDtos.get(i)));
+            }
+        }
+
+        return errors;
+    }
+
+    private void addItemErrors(BindingResult errors, int index, Errors itemErrors) {
+        final String prefix = "[" + index + "]";
+        itemErrors.getFieldErrors().forEach(e -> errors.addError(new FieldError(errors.getObjectName(),
+                prefix + "." + e.getField(), e.getRejectedValue(), e.isBindingFailure(),
+                e.getCodes(), e.getArguments(), e.getDefaultMessage())));
+        itemErrors.getGlobalErrors().forEach(e -> errors.addError(new FieldError(errors.getObjectName(),
+                prefix, null, false, e.getCodes(), e.getArguments(), e.getDefaultMessage())));
+    }
+}
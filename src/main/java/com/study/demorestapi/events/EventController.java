@@ -3,19 +3,29 @@ package com.study.demorestapi.events;
 import com.study.demorestapi.accounts.Account;
 import com.study.demorestapi.accounts.AccountAdapter;
 import com.study.demorestapi.accounts.CurrentUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.demorestapi.common.ErrorResource;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,9 +35,21 @@ import org.springframework.stereotype.Controller;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
@@ -36,12 +58,26 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 @Controller
 public class EventController {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final EventRepository eventRepository;
 
-    private final ModelMapper modelMapper;
+    private final EventService eventService;
+
+    private final EventMapper eventMapper;
 
     private final EventValidator eventValidator;
 
+    private final EventBatchValidator eventBatchValidator;
+
+    private final ObjectMapper objectMapper;
+
+    private final EventImporter eventImporter;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final EventCounter eventCounter;
+
     @PostMapping
     public ResponseEntity createEvent(@RequestBody @Validated EventDto eventDto,
                                       Errors errors,
@@ -56,11 +92,11 @@ public class EventController {
             return badRequest(errors);
         }
 
-        final Event event = modelMapper.map(eventDto, Event.class);
+        final Event event = eventMapper.toEvent(eventDto);
         event.update();
         event.setManager(currentUser);
 
-        final Event newEvent = eventRepository.save(event);
+        final Event newEvent = eventService.saveEvent(event);
 
         final WebMvcLinkBuilder linkBuilder = linkTo(EventController.class).slash(newEvent.getId());
 
@@ -71,33 +107,298 @@ public class EventController {
                 Link.of("docs/index.html#resources-events-create").withRel("profile")
         );
 
-        return ResponseEntity.created(linkBuilder.toUri()).body(eventEntityModel);
+        return ResponseEntity.created(linkBuilder.toUri())
+                .eTag(EventETags.of(newEvent, currentUser))
+                .body(eventEntityModel);
     }
 
     private ResponseEntity badRequest(Errors errors) {
         return ResponseEntity.badRequest().body(ErrorResource.modelOf(errors));
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity createEvents(@RequestBody List<EventDto> eventDtos,
+                                       @CurrentUser Account currentUser) {
+        return createEvents(eventDtos, currentUser, System.nanoTime());
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity createEventsFromNdjson(InputStream body,
+                                                 @CurrentUser Account currentUser) throws IOException {
+        final long started = System.nanoTime();
+        final List<EventDto> eventDtos = new ArrayList<>();
+        try (MappingIterator<EventDto> iterator = objectMapper.readerFor(EventDto.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                eventDtos.add(iterator.nextValue());
+                if (eventDtos.size() > MAX_BATCH_SIZE) {
+                    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return createEvents(eventDtos, currentUser, started);
+    }
+
+    private ResponseEntity createEvents(List<EventDto> eventDtos, Account currentUser, long started) {
+        if (eventDtos.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        // 한 건이라도 실패하면 아무것도 저장하지 않는다
+        final Errors errors = eventBatchValidator.validate(eventDtos);
+        if (errors.hasErrors()) {
+            return badRequest(errors);
+        }
+
+        final List<Event> events = eventDtos.stream()
+                .map(eventDto -> {
+                    final Event event = eventMapper.toEvent(eventDto);
+                    event.update();
+                    event.setManager(currentUser);
+                    return event;
+                })
+                .collect(Collectors.toList());
+
+        final List<Event> newEvents = eventService.createEvents(events);
+
+        final EntityModel<EventBatchResult> model = EntityModel.of(EventBatchResult.of(newEvents, System.nanoTime() - started),
+                linkTo(EventController.class).withRel("query-events"),
+                Link.of("docs/index.html#resources-events-batch").withRel("profile"));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(model);
+    }
+
+    // 일괄 생성과 달리 올바른 줄은 저장하고 잘못된 줄은 보고한다
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity importEventsFromNdjson(InputStream body,
+                                                 @CurrentUser Account currentUser) throws IOException {
+        return imported(eventImporter.importNdjson(body, currentUser));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity importEventsFromCsv(InputStream body,
+                                              @CurrentUser Account currentUser) throws IOException {
+        return imported(eventImporter.importCsv(body, currentUser));
+    }
+
+    private ResponseEntity imported(EventImportResult result) {
+        final EntityModel<EventImportResult> model = EntityModel.of(result,
+                linkTo(EventController.class).withRel("query-events"),
+                Link.of("docs/index.html#resources-events-import").withRel("profile"));
+
+        return ResponseEntity.ok(model);
+    }
+
     @GetMapping
     public ResponseEntity queryEvents(Pageable pageable,
-                                      PagedResourcesAssembler<Event> assembler,
-                                      @CurrentUser Account currentUser) {
+                                      EventFilter filter,
+                                      PagedResourcesAssembler<EventSummary> assembler,
+                                      @CurrentUser Account currentUser,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        final Page<Event> page = eventRepository.findAll(pageable);
-        final PagedModel pagedModel = assembler.toModel(page, e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()));
+        final Page<EventSummary> page = filter.isEmpty()
+                ? eventRepository.findAllSummaries(pageable)
+                : eventRepository.findSummaries(filter, pageable);
+        final String etag = EventETags.ofList(page.getContent(),
+                page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements() + "/" + pageable.getSort() + "/" + filter, currentUser);
+        if (EventETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        // 현재 요청 URI 를 기준으로 해야 first/next 링크에도 필터 파라미터가 남는다
+        final PagedModel pagedModel = assembler.toModel(page,
+                e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()),
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
         pagedModel.add(Link.of("docs/index.html#resources-events-list").withRel("profile"));
         if (currentUser != null) {
             pagedModel.add(linkTo(EventController.class).withRel("create-event"));
         }
 
+        return ResponseEntity.ok().eTag(etag).body(pagedModel);
+    }
+
+    /**
+     * count=false: COUNT(*) 없이 size + 1 건만 읽어 next 링크 여부를 정한다. 응답에 page 정보는 없고,
+     * 총 개수가 필요하면 조건이 없을 때만 주는 count 링크(EventCounter)를 따라간다.
+     */
+    @GetMapping(params = {"count=false", "!cursor"})
+    public ResponseEntity queryEventsSlice(Pageable pageable,
+                                           EventFilter filter,
+                                           @CurrentUser Account currentUser,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final Slice<EventSummary> slice = filter.isEmpty()
+                ? eventRepository.findSummarySlice(pageable)
+                : eventRepository.findSummarySlice(filter, pageable);
+        final String etag = EventETags.ofList(slice.getContent(),
+                slice.getNumber() + "/" + slice.getSize() + "/" + slice.hasNext() + "/" + pageable.getSort() + "/" + filter, currentUser);
+        if (EventETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        final List<EntityModel<EventSummary>> content = slice.getContent().stream()
+                .map(e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()))
+                .collect(Collectors.toList());
+        final CollectionModel<EntityModel<EventSummary>> model = CollectionModel.of(content);
+        model.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        model.add(pageLink(0, IanaLinkRelations.FIRST));
+        if (slice.hasPrevious()) {
+            model.add(pageLink(slice.getNumber() - 1, IanaLinkRelations.PREV));
+        }
+        if (slice.hasNext()) {
+            model.add(pageLink(slice.getNumber() + 1, IanaLinkRelations.NEXT));
+        }
+        if (filter.isEmpty()) {
+            model.add(linkTo(EventController.class).slash("count").withRel("count"));
+        }
+
+        model.add(Link.of("docs/index.html#resources-events-slice").withRel("profile"));
+        if (currentUser != null) {
+            model.add(linkTo(EventController.class).withRel("create-event"));
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(model);
+    }
+
+    // 필터, size, sort 파라미터는 현재 요청 그대로 두고 page 만 바꾼다
+    private Link pageLink(int page, LinkRelation rel) {
+        return Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                .toUriString(), rel);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity countEvents() {
+        final EntityModel<EventCount> model = EntityModel.of(new EventCount(eventCounter.get()),
+                linkTo(EventController.class).slash("count").withSelfRel(),
+                linkTo(EventController.class).withRel("query-events"),
+                Link.of("docs/index.html#resources-events-count").withRel("profile"));
+
+        return ResponseEntity.ok(model);
+    }
+
+    // 응답은 비동기 스레드에서 쓴다. 트랜잭션과 결과 커서는 exportEvents 안에서만 열려 있다
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEvents() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(eventService::exportEvents);
+    }
+
+    private ResponseEntity notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    // 정렬은 검색 점수 순으로 고정이라 sort 파라미터는 쓰지 않는다
+    @GetMapping("/search")
+    public ResponseEntity searchEvents(@RequestParam String q,
+                                       Pageable pageable,
+                                       PagedResourcesAssembler<EventSummary> assembler) {
+        // 색인은 int 로 순위를 매기므로 offset + size 가 int 를 넘는 페이지는 받지 않는다
+        if (q.isBlank() || pageable.getOffset() > Integer.MAX_VALUE - pageable.getPageSize()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final EventSearchIndex.Hits hits = eventSearchIndex.search(q, (int) pageable.getOffset(), pageable.getPageSize());
+        final Map<Integer, EventSummary> summaries = hits.getIds().isEmpty() ? Map.of()
+                : eventRepository.findSummariesByIdIn(hits.getIds()).stream()
+                        .collect(Collectors.toMap(EventSummary::getId, Function.identity()));
+        final List<EventSummary> content = hits.getIds().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        final PagedModel pagedModel = assembler.toModel(new PageImpl<>(content, pageable, hits.getTotal()),
+                e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()),
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+        pagedModel.add(Link.of("docs/index.html#resources-events-search").withRel("profile"));
+
         return ResponseEntity.ok(pagedModel);
     }
 
+    // 커서 조회는 조건 없는 keyset 쿼리뿐이라 필터를 조용히 무시하지 않고 거절한다
+    @GetMapping(params = "cursor")
+    public ResponseEntity queryEventsByCursor(@RequestParam String cursor,
+                                              Pageable pageable,
+                                              EventFilter filter,
+                                              @CurrentUser Account currentUser,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!filter.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final EventCursor eventCursor;
+        try {
+            eventCursor = cursor.isEmpty() ? EventCursor.first(pageable.getSort()) : EventCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final Slice<EventSummary> slice = eventRepository.findByCursor(eventCursor, pageable.getPageSize());
+        final List<EventSummary> events = new ArrayList<>(slice.getContent());
+        if (eventCursor.isBackward()) {
+            Collections.reverse(events);
+        }
+
+        final String etag = EventETags.ofList(events,
+                cursor + "/" + pageable.getPageSize() + "/" + pageable.getSort() + "/" + slice.hasNext(), currentUser);
+        if (EventETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        final List<EntityModel<EventSummary>> content = events.stream()
+                .map(e -> EntityModel.of(e, linkTo(EventController.class).slash(e.getId()).withSelfRel()))
+                .collect(Collectors.toList());
+        final CollectionModel<EntityModel<EventSummary>> model = CollectionModel.of(content);
+        model.add(cursorLink(eventCursor, pageable.getPageSize(), IanaLinkRelations.SELF));
+
+        if (!events.isEmpty()) {
+            final boolean hasNext = eventCursor.isBackward() || slice.hasNext();
+            final boolean hasPrev = eventCursor.isBackward() ? slice.hasNext() : !eventCursor.isFirst();
+            if (hasNext) {
+                model.add(cursorLink(eventCursor.after(events.get(events.size() - 1)), pageable.getPageSize(), IanaLinkRelations.NEXT));
+            }
+            if (hasPrev) {
+                model.add(cursorLink(eventCursor.before(events.get(0)), pageable.getPageSize(), IanaLinkRelations.PREV));
+            }
+        }
+
+        model.add(Link.of("docs/index.html#resources-events-cursor").withRel("profile"));
+        if (currentUser != null) {
+            model.add(linkTo(EventController.class).withRel("create-event"));
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(model);
+    }
+
+    private Link cursorLink(EventCursor cursor, int size, LinkRelation rel) {
+        final UriComponentsBuilder builder = linkTo(EventController.class).toUriComponentsBuilder()
+                .queryParam("cursor", cursor.isFirst() ? "" : cursor.encode())
+                .queryParam("size", size);
+        if (cursor.isFirst()) {
+            builder.queryParam("sort", cursor.getProperty() + "," + cursor.getDirection());
+        }
+
+        return Link.of(builder.toUriString(), rel);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity queryEvent(@PathVariable Integer id,
-                                     @CurrentUser Account currentUser) {
-        final Optional<Event> event = eventRepository.findById(id);
+                                     @CurrentUser Account currentUser,
+                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            final Optional<EventVersion> version = eventRepository.findVersionById(id);
+            if (version.isPresent()) {
+                final String etag = EventETags.of(version.get(), currentUser);
+                if (EventETags.matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+            }
+        }
+
+        final Optional<Event> event = eventService.findEvent(id);
 
         if (event.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -107,17 +408,18 @@ public class EventController {
         final EventResource eventResource = new EventResource(e);
         eventResource.add(Link.of("docs/index.html#resources-events-get").withRel("profile"));
 
-        if (e.getManager().equals(currentUser)) {
+        if (e.isManagedBy(currentUser)) {
             eventResource.add(linkTo(EventController.class).slash(e.getId()).withRel("update-event"));
         }
 
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.ok().eTag(EventETags.of(e, currentUser)).body(eventResource);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity updateEvent(@PathVariable Integer id,
                                       @RequestBody @Valid EventDto eventDto, Errors errors,
-                                      @CurrentUser Account currentUser) {
+                                      @CurrentUser Account currentUser,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (errors.hasErrors()) {
             return badRequest(errors);
         }
@@ -135,16 +437,32 @@ public class EventController {
 
         final Event existingEvent = event.get();
 
-        if (!existingEvent.getManager().equals(currentUser)) {
+        if (!existingEvent.isManagedBy(currentUser)) {
             return new ResponseEntity(HttpStatus.UNAUTHORIZED);
         }
 
-        modelMapper.map(eventDto, existingEvent);
-        final Event savedEvent = eventRepository.save(existingEvent);
+        if (ifMatch != null && !EventETags.matchesVersion(ifMatch, existingEvent.getVersion())) {
+            return currentRepresentation(HttpStatus.PRECONDITION_FAILED, existingEvent, currentUser);
+        }
+
+        eventMapper.update(eventDto, existingEvent);
+        final Event savedEvent;
+        try {
+            savedEvent = eventService.saveEvent(existingEvent);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 읽은 뒤 다른 요청이 먼저 수정함. 롤백으로 영속성 컨텍스트가 비워졌으니 다시 읽는다
+            return eventRepository.findById(id)
+                    .map(current -> currentRepresentation(HttpStatus.CONFLICT, current, currentUser))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+
+        return currentRepresentation(HttpStatus.OK, savedEvent, currentUser);
+    }
 
-        final EventResource eventResource = new EventResource(savedEvent);
+    private ResponseEntity currentRepresentation(HttpStatus status, Event event, Account currentUser) {
+        final EventResource eventResource = new EventResource(event);
         eventResource.add(Link.of("docs/index.html#resources-events-update").withRel("profile"));
 
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.status(status).eTag(EventETags.of(event, currentUser)).body(eventResource);
     }
 }
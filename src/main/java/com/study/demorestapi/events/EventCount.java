@@ -0,0 +1,8 @@
+package com.study.demorestapi.events;
+
+import lombok.Value;
+
+@Value
+public class EventCount {
+    long count;
+}
@@ -0,0 +1,96 @@
+package com.study.demorestapi.events;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * keyset 페이징 커서. 정렬 키와 마지막(또는 첫번째) 이벤트의 값 + id를 담고
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCursor {
+
+    private static final Set<String> SORT_KEYS = Set.of("id", "name");
+    private static final String SEPARATOR = "|";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final boolean backward;
+    private final Integer id;
+    private final String key;
+
+    public static EventCursor first(Sort sort) {
+        final Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        if (!SORT_KEYS.contains(order.getProperty())) {
+            throw new IllegalArgumentException("unsupported cursor sort: " + order.getProperty());
+        }
+
+        return new EventCursor(order.getProperty(), order.getDirection(), false, null, null);
+    }
+
+    public static EventCursor decode(String value) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("malformed cursor", e);
+        }
+
+        final String[] parts = decoded.split("\\" + SEPARATOR, 5);
+        if (parts.length != 5 || !SORT_KEYS.contains(parts[0])) {
+            throw new IllegalArgumentException("malformed cursor");
+        }
+
+        try {
+            return new EventCursor(parts[0], Sort.Direction.fromString(parts[1]), Boolean.parseBoolean(parts[2]),
+                    Integer.valueOf(parts[3]), parts[4]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("malformed cursor", e);
+        }
+    }
+
+    public String encode() {
+        final String value = String.join(SEPARATOR, property, direction.name(), String.valueOf(backward),
+                String.valueOf(id), key == null ? "" : key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public EventCursor after(EventSummary event) {
+        return new EventCursor(property, direction, false, event.getId(), keyOf(event));
+    }
+
+    public EventCursor before(EventSummary event) {
+        return new EventCursor(property, direction, true, event.getId(), keyOf(event));
+    }
+
+    /**
+     * 실제 인덱스를 읽는 방향. prev 페이지는 반대로 읽고 결과를 뒤집는다.
+     */
+    public Sort.Direction scanDirection() {
+        if (!backward) {
+            return direction;
+        }
+
+        return direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    public Sort sort() {
+        final Sort byId = Sort.by(scanDirection(), "id");
+        return "id".equals(property) ? byId : Sort.by(scanDirection(), property).and(byId);
+    }
+
+    private String keyOf(EventSummary event) {
+        return "name".equals(property) ? event.getName() : null;
+    }
+}
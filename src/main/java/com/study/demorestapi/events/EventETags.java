@@ -0,0 +1,79 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.accounts.Account;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 이벤트 응답의 strong ETag. 관리자에게는 update-event 링크가 추가로 내려가므로
+ * 같은 version이라도 관리자 여부에 따라 다른 태그를 쓴다.
+ */
+final class EventETags {
+
+    private EventETags() {
+    }
+
+    static String of(Long version, boolean editable) {
+        return "\"" + version + (editable ? "-m" : "") + "\"";
+    }
+
+    static String of(Event event, Account currentUser) {
+        return of(event.getVersion(), event.isManagedBy(currentUser));
+    }
+
+    static String of(EventVersion version, Account currentUser) {
+        final boolean editable = currentUser != null && version.getManagerId() != null
+                && version.getManagerId().equals(currentUser.getId());
+        return of(version.getVersion(), editable);
+    }
+
+    /**
+     * 목록은 페이지 정보와 각 이벤트의 id, version으로 태그를 만든다.
+     */
+    static String ofList(Collection<EventSummary> events, String page, Account currentUser) {
+        final StringBuilder builder = new StringBuilder(page).append('|').append(currentUser != null);
+        events.forEach(e -> builder.append('|').append(e.getId()).append(':').append(e.getVersion()));
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-Match 비교. strong 비교만 허용하고 태그의 version 부분만 본다.
+     */
+    static boolean matchesVersion(String ifMatch, Long version) {
+        for (String candidate : ifMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+
+            final String value = tag.substring(1, tag.length() - 1);
+            final int suffix = value.indexOf('-');
+            if ((suffix < 0 ? value : value.substring(0, suffix)).equals(String.valueOf(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match 비교. 조건부 GET은 weak 비교를 쓴다.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
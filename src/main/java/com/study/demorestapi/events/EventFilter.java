@@ -0,0 +1,38 @@
+package com.study.demorestapi.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 목록 조회 조건. 값이 있는 것만 AND 로 건다.
+ * 기간은 시작 시각(beginEnrollmentDateTime, beginEventDateTime)의 범위, 가격은 basePrice 의 범위다.
+ */
+@Builder
+@Data @AllArgsConstructor @NoArgsConstructor
+public class EventFilter {
+    private EventStatus eventStatus;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventTo;
+    private Boolean free;
+    private Boolean offline;
+    private Integer priceFrom;
+    private Integer priceTo;
+    private Integer manager;
+
+    public boolean isEmpty() {
+        return Stream.of(eventStatus, enrollmentFrom, enrollmentTo, eventFrom, eventTo, free, offline,
+                priceFrom, priceTo, manager).allMatch(v -> v == null);
+    }
+}
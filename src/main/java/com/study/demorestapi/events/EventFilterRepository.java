@@ -0,0 +1,15 @@
+package com.study.demorestapi.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface EventFilterRepository {
+
+    Page<EventSummary> findSummaries(EventFilter filter, Pageable pageable);
+
+    /**
+     * count 쿼리 없이 size + 1 건을 읽어 다음 페이지가 있는지만 안다.
+     */
+    Slice<EventSummary> findSummarySlice(EventFilter filter, Pageable pageable);
+}
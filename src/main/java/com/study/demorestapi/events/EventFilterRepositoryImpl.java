@@ -0,0 +1,118 @@
+package com.study.demorestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EventFilter 에서 값이 있는 조건만 골라 Criteria 쿼리를 만든다. 결과는 findAllSummaries 와 같은 EventSummary projection.
+ */
+@RequiredArgsConstructor
+class EventFilterRepositoryImpl implements EventFilterRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventSummary> findSummaries(EventFilter filter, Pageable pageable) {
+        final TypedQuery<EventSummary> typedQuery = query(filter, pageable);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(filter));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EventSummary> findSummarySlice(EventFilter filter, Pageable pageable) {
+        final TypedQuery<EventSummary> typedQuery = query(filter, pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        final List<EventSummary> content = typedQuery.getResultList();
+        final boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private TypedQuery<EventSummary> query(EventFilter filter, Pageable pageable) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        final Root<Event> event = query.from(Event.class);
+        query.select(cb.construct(EventSummary.class,
+                        event.get("id"), event.get("name"), event.get("description"),
+                        event.get("beginEnrollmentDateTime"), event.get("closeEnrollmentDateTime"),
+                        event.get("beginEventDateTime"), event.get("endEventDateTime"), event.get("location"),
+                        event.get("basePrice"), event.get("maxPrice"), event.get("limitOfEnrollment"),
+                        event.get("offline"), event.get("free"), event.get("eventStatus"),
+                        event.get("manager").get("id"), event.get("version")))
+                .where(predicates(filter, cb, event))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), event, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(EventFilter filter) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<Event> event = query.from(Event.class);
+        query.select(cb.count(event)).where(predicates(filter, cb, event));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(EventFilter filter, CriteriaBuilder cb, Root<Event> event) {
+        final List<Predicate> predicates = new ArrayList<>();
+        if (filter.getEventStatus() != null) {
+            predicates.add(cb.equal(event.get("eventStatus"), filter.getEventStatus()));
+        }
+        if (filter.getEnrollmentFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("beginEnrollmentDateTime"), filter.getEnrollmentFrom()));
+        }
+        if (filter.getEnrollmentTo() != null) {
+            predicates.add(cb.lessThan(event.get("beginEnrollmentDateTime"), filter.getEnrollmentTo()));
+        }
+        if (filter.getEventFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("beginEventDateTime"), filter.getEventFrom()));
+        }
+        if (filter.getEventTo() != null) {
+            predicates.add(cb.lessThan(event.get("beginEventDateTime"), filter.getEventTo()));
+        }
+        if (filter.getFree() != null) {
+            predicates.add(cb.equal(event.get("free"), filter.getFree()));
+        }
+        if (filter.getOffline() != null) {
+            predicates.add(cb.equal(event.get("offline"), filter.getOffline()));
+        }
+        if (filter.getPriceFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("basePrice"), filter.getPriceFrom()));
+        }
+        if (filter.getPriceTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.get("basePrice"), filter.getPriceTo()));
+        }
+        if (filter.getManager() != null) {
+            predicates.add(cb.equal(event.get("manager").get("id"), filter.getManager()));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.demorestapi.events;
+
+import lombok.Value;
+
+/**
+ * 가져오기에서 실패한 한 줄. field 가 null 이면 줄 전체(파싱 실패나 global 에러)에 대한 것이다.
+ */
+@Value
+public class EventImportError {
+    long line;
+    String field;
+    String code;
+    String message;
+}
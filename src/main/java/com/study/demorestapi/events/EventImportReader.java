@@ -0,0 +1,108 @@
+package com.study.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Value;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문에서 레코드를 하나씩 읽는다. 한 레코드가 깨져도 줄 번호와 함께 넘기고 다음 레코드를 계속 읽는다.
+ */
+abstract class EventImportReader implements Closeable {
+
+    /**
+     * @return 다음 레코드, 끝이면 null
+     */
+    abstract Record next() throws IOException;
+
+    static EventImportReader ndjson(InputStream body, ObjectReader reader) {
+        return new NdjsonReader(body, reader);
+    }
+
+    static EventImportReader csv(InputStream body, ObjectReader reader) throws IOException {
+        return new CsvReader(reader.readValues(body));
+    }
+
+    @Value
+    static class Record {
+        long line;
+        EventDto eventDto;
+        String parseError;
+    }
+
+    private static class NdjsonReader extends EventImportReader {
+
+        private final BufferedReader lines;
+
+        private final ObjectReader reader;
+
+        private long line;
+
+        NdjsonReader(InputStream body, ObjectReader reader) {
+            this.lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            this.reader = reader;
+        }
+
+        @Override
+        Record next() throws IOException {
+            String value;
+            do {
+                value = lines.readLine();
+                line++;
+            } while (value != null && value.isBlank());
+
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return new Record(line, reader.readValue(value), null);
+            } catch (JsonProcessingException e) {
+                return new Record(line, null, e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    /**
+     * 첫 줄은 헤더(EventDto 의 필드 이름). 바인딩에 실패한 행은 MappingIterator 가 다음 행으로 건너뛴다.
+     */
+    private static class CsvReader extends EventImportReader {
+
+        private final MappingIterator<EventDto> rows;
+
+        CsvReader(MappingIterator<EventDto> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        Record next() throws IOException {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+
+            final long line = rows.getCurrentLocation().getLineNr();
+            try {
+                return new Record(line, rows.nextValue(), null);
+            } catch (JsonProcessingException e) {
+                return new Record(line, null, e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.demorestapi.events;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class EventImportResult {
+    long total;
+    long imported;
+    long failed;
+    long elapsedMillis;
+    double itemsPerSecond;
+    List<EventImportError> errors;
+    // errors 는 앞에서부터 EventImporter.MAX_REPORTED_ERRORS 건까지만 담는다
+    boolean errorsTruncated;
+}
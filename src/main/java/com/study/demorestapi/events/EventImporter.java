@@ -0,0 +1,215 @@
+package com.study.demorestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.common.AppProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 큰 NDJSON/CSV 본문을 chunk 단위로 가져온다.
+ * <ol>
+ *     <li>요청 스레드가 본문을 한 레코드씩 읽어 chunk 를 채운다.</li>
+ *     <li>꽉 찬 chunk 는 검증 스레드풀에서 bean validation + EventValidator 를 돌린다.</li>
+ *     <li>검증이 끝난 chunk 는 요청 스레드가 순서대로 한 트랜잭션(saveAll)에 저장한다.</li>
+ * </ol>
+ * 아직 저장하지 않은 chunk 가 importQueueCapacity 만큼 쌓이면 가장 오래된 것을 저장할 때까지 읽기를 멈춘다.
+ * 그래서 메모리에는 많아야 importQueueCapacity + 1 개의 chunk 만 있고 파일 크기와는 관계없다.
+ * 올바른 줄은 저장하고 잘못된 줄은 줄 번호와 함께 보고한다.
+ */
+@Component
+public class EventImporter implements DisposableBean {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EventBatchValidator eventBatchValidator;
+
+    private final EventMapper eventMapper;
+
+    private final EventService eventService;
+
+    private final EntityManager entityManager;
+
+    private final AppProperties properties;
+
+    private final ObjectReader ndjsonReader;
+
+    private final ObjectReader csvReader;
+
+    private final ExecutorService validationExecutor;
+
+    public EventImporter(EventBatchValidator eventBatchValidator, EventMapper eventMapper, EventService eventService,
+                         EntityManager entityManager, AppProperties properties, ObjectMapper objectMapper) {
+        this.eventBatchValidator = eventBatchValidator;
+        this.eventMapper = eventMapper;
+        this.eventService = eventService;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.ndjsonReader = objectMapper.readerFor(EventDto.class);
+
+        final CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        this.csvReader = csvMapper.readerFor(EventDto.class).with(CsvSchema.emptySchema().withHeader());
+
+        this.validationExecutor = Executors.newFixedThreadPool(properties.getImportParallelism(),
+                new CustomizableThreadFactory("event-import-"));
+    }
+
+    public EventImportResult importNdjson(InputStream body, Account manager) throws IOException {
+        try (EventImportReader reader = EventImportReader.ndjson(body, ndjsonReader)) {
+            return importEvents(reader, manager);
+        }
+    }
+
+    public EventImportResult importCsv(InputStream body, Account manager) throws IOException {
+        try (EventImportReader reader = EventImportReader.csv(body, csvReader)) {
+            return importEvents(reader, manager);
+        }
+    }
+
+    private EventImportResult importEvents(EventImportReader reader, Account manager) throws IOException {
+        final long started = System.nanoTime();
+        final int chunkSize = properties.getImportChunkSize();
+        final Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        final Report report = new Report();
+
+        try {
+            List<EventImportReader.Record> records = new ArrayList<>(chunkSize);
+            EventImportReader.Record record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+                if (records.size() < chunkSize) {
+                    continue;
+                }
+
+                pending.add(validateAsync(records, manager));
+                records = new ArrayList<>(chunkSize);
+                if (pending.size() >= properties.getImportQueueCapacity()) {
+                    save(pending.poll(), report);
+                }
+            }
+
+            if (!records.isEmpty()) {
+                pending.add(validateAsync(records, manager));
+            }
+            while (!pending.isEmpty()) {
+                save(pending.poll(), report);
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(true));
+        }
+
+        return report.toResult(System.nanoTime() - started);
+    }
+
+    private CompletableFuture<Chunk> validateAsync(List<EventImportReader.Record> records, Account manager) {
+        return CompletableFuture.supplyAsync(() -> validate(records, manager), validationExecutor);
+    }
+
+    private Chunk validate(List<EventImportReader.Record> records, Account manager) {
+        final Chunk chunk = new Chunk(records.size());
+        for (EventImportReader.Record record : records) {
+            if (record.getParseError() != null) {
+                chunk.errors.add(new EventImportError(record.getLine(), null, "parse", record.getParseError()));
+                chunk.failed++;
+                continue;
+            }
+
+            final Errors errors = eventBatchValidator.validate(record.getEventDto());
+            if (errors.hasErrors()) {
+                errors.getFieldErrors().forEach(e -> chunk.errors.add(
+                        new EventImportError(record.getLine(), e.getField(), e.getCode(), e.getDefaultMessage())));
+                errors.getGlobalErrors().forEach(e -> chunk.errors.add(
+                        new EventImportError(record.getLine(), null, e.getCode(), e.getDefaultMessage())));
+                chunk.failed++;
+                continue;
+            }
+
+            final Event event = eventMapper.toEvent(record.getEventDto());
+            event.update();
+            event.setManager(manager);
+            chunk.events.add(event);
+        }
+
+        return chunk;
+    }
+
+    private void save(CompletableFuture<Chunk> future, Report report) {
+        final Chunk chunk;
+        try {
+            chunk = future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        if (!chunk.events.isEmpty()) {
+            eventService.createEvents(chunk.events);
+            // open-in-view 면 요청 내내 같은 EntityManager 라서 저장한 엔티티가 계속 쌓인다
+            entityManager.clear();
+        }
+
+        report.add(chunk);
+    }
+
+    @Override
+    public void destroy() {
+        validationExecutor.shutdownNow();
+    }
+
+    private static class Chunk {
+        final int size;
+        final List<Event> events;
+        final List<EventImportError> errors = new ArrayList<>();
+        int failed;
+
+        Chunk(int size) {
+            this.size = size;
+            this.events = new ArrayList<>(size);
+        }
+    }
+
+    private static class Report {
+        long total;
+        long imported;
+        long failed;
+        final List<EventImportError> errors = new ArrayList<>();
+        boolean errorsTruncated;
+
+        void add(Chunk chunk) {
+            total += chunk.size;
+            imported += chunk.events.size();
+            failed += chunk.failed;
+            for (EventImportError error : chunk.errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(error);
+                } else {
+                    errorsTruncated = true;
+                }
+            }
+        }
+
+        EventImportResult toResult(long elapsedNanos) {
+            final double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+            return new EventImportResult(total, imported, failed, elapsedNanos / 1_000_000, imported / seconds,
+                    errors, errorsTruncated);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.common.RequestTiming;
+import org.springframework.stereotype.Component;
+
+/**
+ * EventDto <-> Event 변환. ModelMapper와 같은 필드를 같은 규칙(null 포함 전체 복사)으로 옮기지만
+ * 리플렉션이나 타입맵 조회 없이 setter만 호출한다.
+ */
+@Component
+public class EventMapper {
+
+    public Event toEvent(EventDto eventDto) {
+        final Event event = new Event();
+        update(eventDto, event);
+        return event;
+    }
+
+    public void update(EventDto eventDto, Event event) {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.MAPPING)) {
+            copy(eventDto, event);
+        }
+    }
+
+    private void copy(EventDto eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+    }
+
+    public EventDto toDto(Event event) {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.MAPPING)) {
+            return new EventDto(event.getName(), event.getDescription(),
+                    event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime(),
+                    event.getBeginEventDateTime(), event.getEndEventDateTime(),
+                    event.getLocation(), event.getBasePrice(), event.getMaxPrice(), event.getLimitOfEnrollment());
+        }
+    }
+}
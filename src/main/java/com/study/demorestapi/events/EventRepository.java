@@ -1,6 +1,84 @@
 package com.study.demorestapi.events;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, EventFilterRepository {
+
+    String SELECT_SUMMARY = "select new com.study.demorestapi.events.EventSummary(" +
+            "e.id, e.name, e.description, e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, " +
+            "e.beginEventDateTime, e.endEventDateTime, e.location, e.basePrice, e.maxPrice, " +
+            "e.limitOfEnrollment, e.offline, e.free, e.eventStatus, e.manager.id, e.version) from Event e";
+
+    @Transactional(readOnly = true)
+    @Query(value = SELECT_SUMMARY, countQuery = "select count(e) from Event e")
+    Page<EventSummary> findAllSummaries(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY)
+    Slice<EventSummary> findSummarySlice(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + " where e.id > :id")
+    Slice<EventSummary> findSliceAfterId(@Param("id") Integer id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + " where e.id < :id")
+    Slice<EventSummary> findSliceBeforeId(@Param("id") Integer id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + " where e.name > :name or (e.name = :name and e.id > :id)")
+    Slice<EventSummary> findSliceAfterName(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + " where e.name < :name or (e.name = :name and e.id < :id)")
+    Slice<EventSummary> findSliceBeforeName(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
+
+    /**
+     * 전체 내보내기용. 결과를 한 번에 올리지 않고 커서로 500개씩 읽는다.
+     * 엔티티가 아니라 projection 이라 영속성 컨텍스트에 쌓이지 않는다. 호출하는 쪽에서 트랜잭션을 열고 stream 을 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_SUMMARY + " order by e.id")
+    Stream<EventSummary> streamAllSummaries();
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + " where e.id in :ids")
+    List<EventSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Transactional(readOnly = true)
+    @Query("select e.version as version, e.manager.id as managerId from Event e where e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") Integer id);
+
+    default Slice<EventSummary> findByCursor(EventCursor cursor, int size) {
+        final Pageable pageable = PageRequest.of(0, size, cursor.sort());
+        if (cursor.isFirst()) {
+            return findSummarySlice(pageable);
+        }
+
+        final boolean ascending = cursor.scanDirection() == Sort.Direction.ASC;
+        if ("name".equals(cursor.getProperty())) {
+            return ascending
+                    ? findSliceAfterName(cursor.getKey(), cursor.getId(), pageable)
+                    : findSliceBeforeName(cursor.getKey(), cursor.getId(), pageable);
+        }
+
+        return ascending
+                ? findSliceAfterId(cursor.getId(), pageable)
+                : findSliceBeforeId(cursor.getId(), pageable);
+    }
 }
@@ -0,0 +1,456 @@
+package com.study.demorestapi.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 name, description, location 의 메모리 역색인.
+ * 단어마다 id 순으로 정렬한 posting 배열(id, 가중치)을 두고, 검색어의 모든 단어를 포함한 이벤트를
+ * 가장 드문 단어의 posting 에서 출발해 나머지는 이진 탐색으로 교집합을 구한다.
+ * 점수는 단어별 idf * 가중치(필드별로 name 3, location 2, description 1 을 출현 횟수만큼 더한 값)의 합이다.
+ * 노드마다 따로 가지므로 다른 노드에서 만든/수정한 이벤트는 재시작 때 반영된다.
+ */
+@Component
+public class EventSearchIndex implements MeterBinder {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float LOCATION_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Contents contents = new Contents();
+
+    // 진행 중인 rebuild. 그동안 들어온 put/remove 를 기억해 commit 때 새 색인에 다시 적용한다
+    private Rebuild rebuilding;
+
+    public void put(Integer id, String name, String description, String location) {
+        final Map<String, Float> weights = weights(name, description, location);
+
+        lock.writeLock().lock();
+        try {
+            contents.put(id, weights);
+            if (rebuilding != null) {
+                rebuilding.changes.put(id, weights);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Event event) {
+        put(event.getId(), event.getName(), event.getDescription(), event.getLocation());
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            contents.remove(id);
+            if (rebuilding != null) {
+                rebuilding.changes.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contents = new Contents();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 빈 색인을 따로 채우기 시작한다. 채우는 동안 검색은 지금 색인을 그대로 보고, commit 하면 한 번에 바꿔 끼운다.
+     * 그 사이 put/remove 된 id 는 채우며 읽은 행보다 새것일 수 있으므로 commit 때 다시 적용한다.
+     * 나중에 시작한 rebuild 가 있으면 먼저 시작한 쪽의 commit 은 무시된다.
+     */
+    public Rebuild rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Rebuild();
+            return rebuilding;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 점수가 높은 순으로 offset 부터 limit 개의 id 와 전체 일치 건수
+     */
+    public Hits search(String query, int offset, int limit) {
+        final List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            final Postings[] lists = new Postings[queryTerms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = contents.postings.get(queryTerms.get(i));
+                if (lists[i] == null) {
+                    return new Hits(0, List.of());
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+
+            final int documentCount = contents.documents.size();
+            final float[] idf = new float[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = (float) Math.log(1 + (double) documentCount / lists[i].size);
+            }
+
+            final Postings rarest = lists[0];
+            // 점수가 가장 낮은 것이 맨 앞. offset + limit 개만 남기되 후보 수를 넘지 않는다
+            // offset 이 후보 수 이상이면 순위를 매기지 않고 건수만 센다
+            final int keep = offset >= rarest.size ? 0 : (int) Math.min((long) offset + limit, rarest.size);
+            final PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(keep, 1), Hit.ORDER);
+            // id 가 큰 것부터 훑는다. 점수가 같으면 먼저 본(id 가 큰) 것이 이기므로 뒤에 오는 동점은 힙을 건드리지 않는다
+            final int[] cursors = new int[lists.length];
+            for (int i = 1; i < lists.length; i++) {
+                cursors[i] = lists[i].size - 1;
+            }
+            int total = 0;
+            candidates:
+            for (int c = rarest.size - 1; c >= 0; c--) {
+                final int id = rarest.ids[c];
+                float score = idf[0] * rarest.weights[c];
+                for (int i = 1; i < lists.length; i++) {
+                    final int index = lists[i].seekDown(id, cursors[i]);
+                    if (index < 0) {
+                        // 이 단어에 더 작은 id 가 없으니 남은 후보도 모두 탈락
+                        break candidates;
+                    }
+                    cursors[i] = index;
+                    if (lists[i].ids[index] != id) {
+                        continue candidates;
+                    }
+                    score += idf[i] * lists[i].weights[index];
+                }
+
+                total++;
+                if (top.size() < keep) {
+                    top.add(new Hit(id, score));
+                } else if (keep > 0 && score > top.peek().score) {
+                    top.poll();
+                    top.add(new Hit(id, score));
+                }
+            }
+
+            final List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Hit.ORDER.reversed());
+            final List<Integer> ids = new ArrayList<>(Math.max(ranked.size() - offset, 0));
+            for (int i = offset; i < ranked.size(); i++) {
+                ids.add(ranked.get(i).id);
+            }
+
+            return new Hits(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * put/remove 때마다 갱신해 둔 값이라 색인 크기와 관계없이 바로 돌려준다. 게이지가 스크레이프마다 부른다.
+     */
+    public Footprint footprint() {
+        lock.readLock().lock();
+        try {
+            return new Footprint(contents.documents.size(), contents.postings.size(), contents.postingCount,
+                    contents.estimatedBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.search.index.documents", this, i -> i.footprint().getDocuments())
+                .description("Events in the in-memory search index")
+                .register(registry);
+        Gauge.builder("events.search.index.terms", this, i -> i.footprint().getTerms())
+                .register(registry);
+        Gauge.builder("events.search.index.size", this, i -> i.footprint().getEstimatedBytes())
+                .description("Estimated heap used by the search index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        final List<String> terms = new ArrayList<>();
+        for (String term : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty() && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static Map<String, Float> weights(String name, String description, String location) {
+        final Map<String, Float> weights = new LinkedHashMap<>();
+        addTerms(weights, name, NAME_WEIGHT);
+        addTerms(weights, location, LOCATION_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        for (String term : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                weights.merge(term, weight, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * rebuild() 로 연 새 색인. 한 스레드에서 put 으로 채우고 commit 한다. commit 하지 않고 close 하면 버린다.
+     */
+    public final class Rebuild implements AutoCloseable {
+
+        private final Contents fresh = new Contents();
+
+        // id -> 가중치, 지웠으면 null
+        private final Map<Integer, Map<String, Float>> changes = new HashMap<>();
+
+        private Rebuild() {
+        }
+
+        public void put(Integer id, String name, String description, String location) {
+            fresh.put(id, weights(name, description, location));
+        }
+
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding != this) {
+                    return;
+                }
+
+                changes.forEach((id, weights) -> {
+                    if (weights == null) {
+                        fresh.remove(id);
+                    } else {
+                        fresh.put(id, weights);
+                    }
+                });
+                contents = fresh;
+                rebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding == this) {
+                    rebuilding = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Value
+    public static class Hits {
+        int total;
+        List<Integer> ids;
+    }
+
+    @Value
+    public static class Footprint {
+        int documents;
+        int terms;
+        long postings;
+        long estimatedBytes;
+    }
+
+    private static class Hit {
+        // 순위가 낮은 것부터. 점수가 같으면 id 가 작은(오래된) 것이 낮다
+        static final Comparator<Hit> ORDER = Comparator.<Hit>comparingDouble(h -> h.score)
+                .thenComparingInt(h -> h.id);
+
+        final int id;
+        final float score;
+
+        Hit(int id, float score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 단어 -> posting 과, 수정할 때 이전 단어를 지우기 위한 id -> 단어 목록. 잠금은 바깥(EventSearchIndex)에서 잡는다.
+     * footprint 를 훑지 않고 줄 수 있도록 posting 수와 추정 크기를 바꿀 때마다 함께 센다.
+     */
+    private static class Contents {
+        final Map<String, Postings> postings = new HashMap<>();
+        final Map<Integer, String[]> documents = new HashMap<>();
+        long postingCount;
+        long estimatedBytes;
+
+        void put(Integer id, Map<String, Float> weights) {
+            remove(id);
+
+            final String[] terms = new String[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                Postings termPostings = postings.get(entry.getKey());
+                if (termPostings == null) {
+                    termPostings = new Postings();
+                    postings.put(entry.getKey(), termPostings);
+                    estimatedBytes += termBytes(entry.getKey(), termPostings);
+                }
+
+                final int capacity = termPostings.ids.length;
+                if (termPostings.put(id, entry.getValue())) {
+                    postingCount++;
+                }
+                estimatedBytes += (termPostings.ids.length - capacity) * 8L;
+                // 같은 단어 문자열은 postings 의 키 하나만 남긴다
+                terms[i++] = entry.getKey();
+            }
+            documents.put(id, terms);
+            estimatedBytes += documentBytes(terms);
+        }
+
+        void remove(Integer id) {
+            final String[] terms = documents.remove(id);
+            if (terms == null) {
+                return;
+            }
+
+            estimatedBytes -= documentBytes(terms);
+            for (String term : terms) {
+                final Postings termPostings = postings.get(term);
+                if (termPostings != null && termPostings.remove(id)) {
+                    postingCount--;
+                    if (termPostings.size == 0) {
+                        postings.remove(term);
+                        estimatedBytes -= termBytes(term, termPostings);
+                    }
+                }
+            }
+        }
+
+        // HashMap 엔트리 + String + Postings 객체 헤더, posting 배열(int + float)
+        private static long termBytes(String term, Postings termPostings) {
+            return 32 + 40 + term.length() * 2L + 32 + termPostings.ids.length * 8L;
+        }
+
+        // HashMap 엔트리 + Integer 키 + 단어 참조 배열
+        private static long documentBytes(String[] terms) {
+            return 32 + 16 + 16 + terms.length * 4L;
+        }
+    }
+
+    /**
+     * id 오름차순으로 정렬된 (id, 가중치) 배열. id 는 보통 커지는 순으로 들어와서 대부분 뒤에 붙는다.
+     */
+    private static class Postings {
+        static final int LINEAR_PROBES = 8;
+
+        int[] ids = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        int indexOf(int id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+
+        /**
+         * from 이하 위치에서 값이 id 이하인 가장 뒤 위치, 없으면 -1.
+         * 두 목록의 크기가 비슷하면 몇 칸 안에 찾으므로 먼저 한 칸씩 보고, 멀면 간격을 두 배씩 늘려 좁힌 뒤 이진 탐색한다.
+         */
+        int seekDown(int id, int from) {
+            final int stop = Math.max(from - LINEAR_PROBES, -1);
+            for (int i = from; i > stop; i--) {
+                if (ids[i] <= id) {
+                    return i;
+                }
+            }
+            if (stop < 0) {
+                return -1;
+            }
+
+            int high = stop + 1;
+            int step = 1;
+            int low = high - step;
+            while (low >= 0 && ids[low] > id) {
+                high = low;
+                step <<= 1;
+                low = high - step;
+            }
+
+            final int index = Arrays.binarySearch(ids, Math.max(low, 0), high, id);
+            return index >= 0 ? index : -(index + 1) - 1;
+        }
+
+        /**
+         * @return 새로 넣었으면 true, 이미 있어서 가중치만 바꿨으면 false
+         */
+        boolean put(int id, float weight) {
+            int index = size > 0 && ids[size - 1] < id ? -(size + 1) : indexOf(id);
+            if (index >= 0) {
+                weights[index] = weight;
+                return false;
+            }
+
+            index = -(index + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(weights, index, weights, index + 1, size - index);
+            ids[index] = id;
+            weights[index] = weight;
+            size++;
+            return true;
+        }
+
+        boolean remove(int id) {
+            final int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
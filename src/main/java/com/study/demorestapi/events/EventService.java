@@ -0,0 +1,109 @@
+package com.study.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class EventService {
+
+    public static final String EVENTS_CACHE = "events";
+
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    private final EventRepository eventRepository;
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final EventCounter eventCounter;
+
+    // sync: 같은 id로 동시에 들어온 miss는 하나의 조회 결과를 기다려 공유한다
+    @Cacheable(cacheNames = EVENTS_CACHE, sync = true)
+    public Optional<Event> findEvent(Integer id) {
+        return eventRepository.findById(id);
+    }
+
+    @CacheEvict(cacheNames = EVENTS_CACHE, key = "#result.id")
+    public Event saveEvent(Event event) {
+        final boolean created = event.getId() == null;
+        final Event savedEvent = eventRepository.save(event);
+        if (created) {
+            eventCounter.add(1);
+        }
+        eventSearchIndex.put(savedEvent);
+        return savedEvent;
+    }
+
+    /**
+     * saveAll 한 트랜잭션으로 저장하고 커밋 시점의 flush에서 insert가 JDBC batch로 묶인다.
+     * 커밋 뒤에 새 id로 캐시된 빈 조회 결과를 지운다.
+     */
+    public List<Event> createEvents(List<Event> events) {
+        final List<Event> savedEvents = eventRepository.saveAll(events);
+        eventCounter.add(savedEvents.size());
+
+        final Cache cache = cacheManager.getCache(EVENTS_CACHE);
+        if (cache != null) {
+            savedEvents.forEach(e -> cache.evict(e.getId()));
+        }
+        savedEvents.forEach(eventSearchIndex::put);
+
+        return savedEvents;
+    }
+
+    // 기동이 끝나면 DB 의 이벤트로 검색 색인을 새로 만든다. 그 뒤로는 saveEvent, createEvents 가 갱신한다
+    // 이미 요청을 받고 있으므로 새 색인을 따로 채워서 바꿔 끼운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        try (EventSearchIndex.Rebuild rebuild = eventSearchIndex.rebuild();
+             Stream<EventSummary> events = eventRepository.streamAllSummaries()) {
+            events.forEach(e -> rebuild.put(e.getId(), e.getName(), e.getDescription(), e.getLocation()));
+            rebuild.commit();
+        }
+    }
+
+    /**
+     * 모든 이벤트를 id 순으로 한 줄에 하나씩(NDJSON) 쓴다. 읽는 대로 바로 쓰기 때문에 메모리 사용량은 행 수와 관계없고,
+     * 첫 행을 쓰자마자 flush 해서 쿼리가 끝나기 전에 응답이 나가기 시작한다. 응답 스트림은 닫지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public long exportEvents(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<EventSummary> events = eventRepository.streamAllSummaries();
+             SequenceWriter writer = objectMapper.writerFor(EventSummary.class)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            for (Iterator<EventSummary> iterator = events.iterator(); iterator.hasNext(); ) {
+                writer.write(iterator.next());
+                if (++count % EXPORT_FLUSH_INTERVAL == 1) {
+                    writer.flush();
+                }
+            }
+        }
+
+        return count;
+    }
+}
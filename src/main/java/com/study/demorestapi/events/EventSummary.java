@@ -0,0 +1,41 @@
+package com.study.demorestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountSerializer;
+import lombok.Value;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 읽기 전용 projection. 영속성 컨텍스트에 올라가지 않으며 JSON 모양은 Event와 같다.
+ */
+@Value
+@Relation(collectionRelation = "eventList")
+public class EventSummary {
+    Integer id;
+    String name;
+    String description;
+    LocalDateTime beginEnrollmentDateTime;
+    LocalDateTime closeEnrollmentDateTime;
+    LocalDateTime beginEventDateTime;
+    LocalDateTime endEventDateTime;
+    String location;
+    int basePrice;
+    int maxPrice;
+    int limitOfEnrollment;
+    boolean offline;
+    boolean free;
+    EventStatus eventStatus;
+    @JsonIgnore
+    Integer managerId;
+    @JsonIgnore
+    Long version;
+
+    @JsonSerialize(using = AccountSerializer.class)
+    public Account getManager() {
+        return managerId == null ? null : Account.builder().id(managerId).build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.demorestapi.events;
 
+import com.study.demorestapi.common.RequestTiming;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
@@ -7,6 +8,12 @@ import org.springframework.validation.Errors;
 public class EventValidator {
 
     public void validate(EventDto eventDto, Errors errors) {
+        try (RequestTiming.Scope ignored = RequestTiming.phase(RequestTiming.Phase.VALIDATION)) {
+            check(eventDto, errors);
+        }
+    }
+
+    private void check(EventDto eventDto, Errors errors) {
         if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() > 0) {
             errors.rejectValue("basePrice", "wrong value", "base price is wrong.");
             errors.rejectValue("maxPrice", "wrong value", "max price is wrong.");
@@ -0,0 +1,7 @@
+package com.study.demorestapi.events;
+
+public interface EventVersion {
+    Long getVersion();
+
+    Integer getManagerId();
+}
@@ -0,0 +1,71 @@
+package com.study.demorestapi.tokens;
+
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountAdapter;
+import com.study.demorestapi.accounts.AccountRole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JWT에 account id를 같이 담고, 읽을 때 DB 조회 없이 AccountAdapter를 다시 만든다.
+ * 그래야 @CurrentUser 와 이벤트 manager 비교가 토큰 저장소 없이도 동작한다.
+ */
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+
+    static final String ACCOUNT_ID = "account_id";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        final Map<String, Object> response = new HashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            response.put(ACCOUNT_ID, ((AccountAdapter) authentication.getPrincipal()).getAccount().getId());
+        }
+
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !map.containsKey(ACCOUNT_ID)) {
+            return super.extractAuthentication(map);
+        }
+
+        final Collection<? extends GrantedAuthority> authorities = authorities(map);
+        final Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password("")
+                .roles(roles(authorities))
+                .build();
+
+        return new UsernamePasswordAuthenticationToken(new AccountAdapter(account), "N/A", authorities);
+    }
+
+    private static Collection<? extends GrantedAuthority> authorities(Map<String, ?> map) {
+        final Object authorities = map.get(AUTHORITIES);
+        if (authorities instanceof Collection) {
+            return AuthorityUtils.createAuthorityList(((Collection<?>) authorities).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new));
+        }
+
+        return AuthorityUtils.NO_AUTHORITIES;
+    }
+
+    private static Set<AccountRole> roles(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .map(a -> AccountRole.valueOf(a.substring("ROLE_".length())))
+                .collect(Collectors.toSet());
+    }
+}
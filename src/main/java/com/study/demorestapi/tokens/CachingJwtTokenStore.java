@@ -0,0 +1,91 @@
+package com.study.demorestapi.tokens;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+
+/**
+ * access 토큰은 서명된 JWT라 저장하지 않고 검증만 한다. 검증 결과는 토큰 해시를 키로 토큰 만료 시각까지 캐시해서
+ * 같은 토큰으로 다시 오면 서명 검사를 건너뛴다.
+ * refresh 토큰은 폐기할 수 있어야 하므로 bounded 저장소(CaffeineTokenStore)에 넣고, 저장소에 없는 refresh 토큰은 거절된다.
+ */
+public class CachingJwtTokenStore extends JwtTokenStore implements MeterBinder {
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private final CaffeineTokenStore refreshTokenStore;
+
+    public CachingJwtTokenStore(JwtAccessTokenConverter accessTokenConverter, long maximumSize) {
+        super(accessTokenConverter);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration<String, VerifiedToken>(v -> v.token.getExpiration()))
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+        this.refreshTokenStore = new CaffeineTokenStore(maximumSize);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "oauth2.verified-tokens");
+        refreshTokenStore.bindTo(registry);
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        return verify(tokenValue).token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        return verify(token).authentication;
+    }
+
+    // 검증에 실패하면 InvalidTokenException이 그대로 나가고 캐시에 남지 않는다
+    private VerifiedToken verify(String tokenValue) {
+        return verifiedTokens.get(TokenHash.of(tokenValue),
+                key -> new VerifiedToken(super.readAccessToken(tokenValue), super.readAuthentication(tokenValue)));
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        refreshTokenStore.storeRefreshToken(refreshToken, authentication);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        return refreshTokenStore.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        return refreshTokenStore.readAuthenticationForRefreshToken(token);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        refreshTokenStore.removeRefreshToken(token);
+    }
+
+    @RequiredArgsConstructor
+    private static final class VerifiedToken {
+        private final OAuth2AccessToken token;
+        private final OAuth2Authentication authentication;
+    }
+}
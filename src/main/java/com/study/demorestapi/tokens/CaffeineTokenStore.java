@@ -0,0 +1,233 @@
+package com.study.demorestapi.tokens;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * InMemoryTokenStore 대체. 토큰마다 자신의 만료 시각까지만 살아있고(Caffeine 타이머 휠) 전체 개수는 maximumSize 로 제한한다.
+ * 보조 인덱스(인증 키, refresh 토큰 -> access 토큰)도 같은 엔트리와 같은 만료 시각을 쓰는 bounded 캐시이고,
+ * client/user 로 찾는 메서드는 호출이 드물어 인덱스를 두지 않고 access 토큰 캐시를 훑는다.
+ */
+public class CaffeineTokenStore implements TokenStore, MeterBinder {
+
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    private final Cache<String, AccessTokenEntry> accessTokens;
+    private final Cache<String, AccessTokenEntry> accessTokensByAuthentication;
+    private final Cache<String, AccessTokenEntry> accessTokensByRefreshToken;
+    private final Cache<String, RefreshTokenEntry> refreshTokens;
+
+    private final LongAdder expiredAccessTokens = new LongAdder();
+    private final LongAdder expiredRefreshTokens = new LongAdder();
+
+    public CaffeineTokenStore(long maximumSize) {
+        accessTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration<String, AccessTokenEntry>(e -> e.token.getExpiration()))
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String key, AccessTokenEntry value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPIRED) {
+                        expiredAccessTokens.increment();
+                    }
+                })
+                .recordStats()
+                .build();
+        accessTokensByAuthentication = index(maximumSize);
+        accessTokensByRefreshToken = index(maximumSize);
+        refreshTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration<String, RefreshTokenEntry>(e -> e.token instanceof ExpiringOAuth2RefreshToken
+                        ? ((ExpiringOAuth2RefreshToken) e.token).getExpiration()
+                        : null))
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String key, RefreshTokenEntry value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPIRED) {
+                        expiredRefreshTokens.increment();
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static Cache<String, AccessTokenEntry> index(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration<String, AccessTokenEntry>(e -> e.token.getExpiration()))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, accessTokens, "oauth2.access-tokens");
+        CaffeineCacheMetrics.monitor(registry, refreshTokens, "oauth2.refresh-tokens");
+        Gauge.builder("oauth2.tokens.stored", accessTokens, Cache::estimatedSize)
+                .tag("type", "access")
+                .description("tokens currently held by the token store")
+                .register(registry);
+        Gauge.builder("oauth2.tokens.stored", refreshTokens, Cache::estimatedSize)
+                .tag("type", "refresh")
+                .description("tokens currently held by the token store")
+                .register(registry);
+        FunctionCounter.builder("oauth2.tokens.expired", expiredAccessTokens, LongAdder::sum)
+                .tag("type", "access")
+                .description("access tokens removed because they reached their expiration")
+                .register(registry);
+        FunctionCounter.builder("oauth2.tokens.expired", expiredRefreshTokens, LongAdder::sum)
+                .tag("type", "refresh")
+                .description("refresh tokens removed because they reached their expiration")
+                .register(registry);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        final AccessTokenEntry entry = accessTokens.getIfPresent(token);
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        final String refreshToken = token.getRefreshToken() == null ? null : token.getRefreshToken().getValue();
+        final AccessTokenEntry entry = new AccessTokenEntry(token, authentication,
+                authenticationKeyGenerator.extractKey(authentication), refreshToken);
+
+        accessTokens.put(token.getValue(), entry);
+        accessTokensByAuthentication.put(entry.authenticationKey, entry);
+        if (refreshToken != null) {
+            accessTokensByRefreshToken.put(refreshToken, entry);
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        final AccessTokenEntry entry = accessTokens.getIfPresent(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        removeAccessToken(token.getValue());
+    }
+
+    private void removeAccessToken(String tokenValue) {
+        final AccessTokenEntry entry = accessTokens.asMap().remove(tokenValue);
+        if (entry == null) {
+            return;
+        }
+
+        accessTokensByAuthentication.asMap().remove(entry.authenticationKey, entry);
+        if (entry.refreshToken != null) {
+            accessTokensByRefreshToken.asMap().remove(entry.refreshToken, entry);
+        }
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        refreshTokens.put(refreshToken.getValue(), new RefreshTokenEntry(refreshToken, authentication));
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        final RefreshTokenEntry entry = refreshTokens.getIfPresent(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        final RefreshTokenEntry entry = refreshTokens.getIfPresent(token.getValue());
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        refreshTokens.invalidate(token.getValue());
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        final AccessTokenEntry entry = accessTokensByRefreshToken.asMap().remove(refreshToken.getValue());
+        if (entry != null) {
+            removeAccessToken(entry.token.getValue());
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        final String key = authenticationKeyGenerator.extractKey(authentication);
+        final AccessTokenEntry entry = accessTokensByAuthentication.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+
+        // 용량 초과로 access 토큰만 먼저 밀려났을 수 있다
+        if (accessTokens.getIfPresent(entry.token.getValue()) != entry) {
+            accessTokensByAuthentication.asMap().remove(key, entry);
+            return null;
+        }
+
+        return entry.token;
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return findTokens(e -> clientId.equals(e.authentication.getOAuth2Request().getClientId())
+                && !e.authentication.isClientOnly()
+                && userName.equals(e.authentication.getName()));
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return findTokens(e -> clientId.equals(e.authentication.getOAuth2Request().getClientId()));
+    }
+
+    private Collection<OAuth2AccessToken> findTokens(Predicate<AccessTokenEntry> filter) {
+        return accessTokens.asMap().values().stream()
+                .filter(filter)
+                .map(e -> e.token)
+                .collect(Collectors.toList());
+    }
+
+    long accessTokenCount() {
+        accessTokens.cleanUp();
+        return accessTokens.estimatedSize();
+    }
+
+    @RequiredArgsConstructor
+    private static final class AccessTokenEntry {
+        private final OAuth2AccessToken token;
+        private final OAuth2Authentication authentication;
+        private final String authenticationKey;
+        private final String refreshToken;
+    }
+
+    @RequiredArgsConstructor
+    private static final class RefreshTokenEntry {
+        private final OAuth2RefreshToken token;
+        private final OAuth2Authentication authentication;
+    }
+}
@@ -0,0 +1,256 @@
+package com.study.demorestapi.tokens;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.study.demorestapi.accounts.AccountAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 노드가 같은 datasource 로 토큰을 공유한다. 토큰 값은 SHA-256 으로만 저장/조회한다.
+ * 요청마다 두 번 일어나는 access 토큰 조회는 노드별 near-cache 를 거친다. 이 노드에서 지운 토큰은 바로 캐시에서도 빠지고,
+ * 다른 노드에서 폐기한 토큰은 near-cache TTL 이 지나면 반영된다.
+ * 인증 정보는 비밀번호 해시를 뺀 principal 로 바꿔서 직렬화한다.
+ */
+public class JpaTokenStore implements TokenStore, MeterBinder {
+
+    static final int CLEANUP_BATCH_SIZE = 500;
+
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    private final StoredAccessTokenRepository accessTokenRepository;
+
+    private final StoredRefreshTokenRepository refreshTokenRepository;
+
+    private final Cache<String, AccessTokenEntry> nearCache;
+
+    private final LongAdder deletedExpiredTokens = new LongAdder();
+
+    public JpaTokenStore(StoredAccessTokenRepository accessTokenRepository,
+                         StoredRefreshTokenRepository refreshTokenRepository,
+                         long maximumSize, Duration nearCacheTtl) {
+        this.accessTokenRepository = accessTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration<String, AccessTokenEntry>(e -> e.token.getExpiration(), nearCacheTtl))
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, nearCache, "oauth2.token-near-cache");
+        FunctionCounter.builder("oauth2.tokens.expired", deletedExpiredTokens, LongAdder::sum)
+                .tag("type", "stored")
+                .description("expired token rows deleted by the cleanup job")
+                .register(registry);
+        // 스크레이프마다 count 쿼리 한 번. 만료된 행은 cleanup 전까지 포함된다
+        Gauge.builder("oauth2.tokens.stored", accessTokenRepository, StoredAccessTokenRepository::count)
+                .tag("type", "access")
+                .description("tokens currently held by the token store")
+                .register(registry);
+        Gauge.builder("oauth2.tokens.stored", refreshTokenRepository, StoredRefreshTokenRepository::count)
+                .tag("type", "refresh")
+                .description("tokens currently held by the token store")
+                .register(registry);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        final AccessTokenEntry entry = entry(token);
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        final AccessTokenEntry entry = entry(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    // 없는 토큰은 캐시하지 않는다 (다른 노드가 방금 발급했을 수 있다)
+    private AccessTokenEntry entry(String tokenValue) {
+        return nearCache.get(TokenHash.of(tokenValue), id -> accessTokenRepository.findById(id)
+                .map(t -> new AccessTokenEntry(deserialize(t.getToken()), deserialize(t.getAuthentication())))
+                .orElse(null));
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        final String id = TokenHash.of(token.getValue());
+        final String refreshTokenId = token.getRefreshToken() == null ? null : TokenHash.of(token.getRefreshToken().getValue());
+
+        accessTokenRepository.save(new StoredAccessToken(id,
+                SerializationUtils.serialize(token),
+                SerializationUtils.serialize(withoutCredentials(authentication)),
+                authenticationKeyGenerator.extractKey(authentication),
+                refreshTokenId,
+                authentication.getOAuth2Request().getClientId(),
+                authentication.isClientOnly() ? null : authentication.getName(),
+                instant(token.getExpiration())));
+        nearCache.invalidate(id);
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        final String id = TokenHash.of(token.getValue());
+        accessTokenRepository.deleteAllByIdInBatch(List.of(id));
+        nearCache.invalidate(id);
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        final Date expiration = refreshToken instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration()
+                : null;
+
+        refreshTokenRepository.save(new StoredRefreshToken(TokenHash.of(refreshToken.getValue()),
+                SerializationUtils.serialize(refreshToken),
+                SerializationUtils.serialize(withoutCredentials(authentication)),
+                instant(expiration)));
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        return readRefreshToken(tokenValue, StoredRefreshToken::getToken);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        return readRefreshToken(token.getValue(), StoredRefreshToken::getAuthentication);
+    }
+
+    private <T> T readRefreshToken(String tokenValue, Function<StoredRefreshToken, byte[]> column) {
+        return refreshTokenRepository.findById(TokenHash.of(tokenValue))
+                .map(t -> JpaTokenStore.<T>deserialize(column.apply(t)))
+                .orElse(null);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        refreshTokenRepository.deleteAllByIdInBatch(List.of(TokenHash.of(token.getValue())));
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        final List<String> ids = accessTokenRepository.findIdsByRefreshTokenId(TokenHash.of(refreshToken.getValue()));
+        if (!ids.isEmpty()) {
+            accessTokenRepository.deleteAllByIdInBatch(ids);
+            nearCache.invalidateAll(ids);
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        return accessTokenRepository.findFirstByAuthenticationKey(authenticationKeyGenerator.extractKey(authentication))
+                .map(t -> JpaTokenStore.<OAuth2AccessToken>deserialize(t.getToken()))
+                .orElse(null);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return tokens(accessTokenRepository.findByClientIdAndUsername(clientId, userName));
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return tokens(accessTokenRepository.findByClientId(clientId));
+    }
+
+    private static List<OAuth2AccessToken> tokens(List<StoredAccessToken> storedTokens) {
+        return storedTokens.stream()
+                .map(t -> JpaTokenStore.<OAuth2AccessToken>deserialize(t.getToken()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 만료된 행을 CLEANUP_BATCH_SIZE 개씩 지운다. 한 번에 지우면 테이블이 클 때 트랜잭션과 잠금이 길어진다.
+     */
+    @Scheduled(fixedDelayString = "${my-app.token-cleanup-interval:PT1M}")
+    public void deleteExpiredTokens() {
+        final Instant now = Instant.now();
+
+        List<String> ids;
+        do {
+            ids = accessTokenRepository.findExpiredIds(now, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                accessTokenRepository.deleteAllByIdInBatch(ids);
+                nearCache.invalidateAll(ids);
+                deletedExpiredTokens.add(ids.size());
+            }
+        } while (ids.size() == CLEANUP_BATCH_SIZE);
+
+        do {
+            ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                deletedExpiredTokens.add(ids.size());
+            }
+        } while (ids.size() == CLEANUP_BATCH_SIZE);
+    }
+
+    /**
+     * AccountAdapter 는 Account 를 통째로 들고 있고 User.eraseCredentials 는 Account 의 비밀번호까지 지우지 않는다.
+     */
+    private static OAuth2Authentication withoutCredentials(OAuth2Authentication authentication) {
+        final Authentication userAuthentication = authentication.getUserAuthentication();
+        if (userAuthentication == null || !(userAuthentication.getPrincipal() instanceof AccountAdapter)) {
+            return authentication;
+        }
+
+        final UsernamePasswordAuthenticationToken stored = new UsernamePasswordAuthenticationToken(
+                ((AccountAdapter) userAuthentication.getPrincipal()).withoutCredentials(), null,
+                userAuthentication.getAuthorities());
+        stored.setDetails(userAuthentication.getDetails());
+        final OAuth2Authentication result = new OAuth2Authentication(authentication.getOAuth2Request(), stored);
+        result.setDetails(authentication.getDetails());
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(byte[] bytes) {
+        return (T) SerializationUtils.deserialize(bytes);
+    }
+
+    private static Instant instant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    @RequiredArgsConstructor
+    private static final class AccessTokenEntry {
+        private final OAuth2AccessToken token;
+        private final OAuth2Authentication authentication;
+    }
+}
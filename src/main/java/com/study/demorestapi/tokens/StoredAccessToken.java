@@ -0,0 +1,44 @@
+package com.study.demorestapi.tokens;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * id 는 토큰 값의 SHA-256. 토큰과 인증 정보는 직렬화해서 그대로 담는다.
+ */
+@Entity
+@Table(name = "oauth_access_token", indexes = {
+        @Index(name = "idx_access_token_authentication", columnList = "authenticationKey"),
+        @Index(name = "idx_access_token_refresh", columnList = "refreshTokenId"),
+        @Index(name = "idx_access_token_client_user", columnList = "clientId, username"),
+        @Index(name = "idx_access_token_expires", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StoredAccessToken {
+    @Id
+    @Column(length = 64)
+    private String id;
+    @Lob
+    private byte[] token;
+    @Lob
+    private byte[] authentication;
+    @Column(length = 32)
+    private String authenticationKey;
+    @Column(length = 64)
+    private String refreshTokenId;
+    private String clientId;
+    private String username;
+    private Instant expiresAt;
+}
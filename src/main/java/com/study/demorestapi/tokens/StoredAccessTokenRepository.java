@@ -0,0 +1,25 @@
+package com.study.demorestapi.tokens;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredAccessTokenRepository extends JpaRepository<StoredAccessToken, String> {
+
+    Optional<StoredAccessToken> findFirstByAuthenticationKey(String authenticationKey);
+
+    @Query("select t.id from StoredAccessToken t where t.refreshTokenId = :refreshTokenId")
+    List<String> findIdsByRefreshTokenId(@Param("refreshTokenId") String refreshTokenId);
+
+    List<StoredAccessToken> findByClientId(String clientId);
+
+    List<StoredAccessToken> findByClientIdAndUsername(String clientId, String username);
+
+    @Query("select t.id from StoredAccessToken t where t.expiresAt < :now")
+    List<String> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+}
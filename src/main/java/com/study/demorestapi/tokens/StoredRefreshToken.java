@@ -0,0 +1,30 @@
+package com.study.demorestapi.tokens;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "oauth_refresh_token", indexes = @Index(name = "idx_refresh_token_expires", columnList = "expiresAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StoredRefreshToken {
+    @Id
+    @Column(length = 64)
+    private String id;
+    @Lob
+    private byte[] token;
+    @Lob
+    private byte[] authentication;
+    private Instant expiresAt;
+}
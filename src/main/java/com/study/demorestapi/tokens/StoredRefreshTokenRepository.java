@@ -0,0 +1,15 @@
+package com.study.demorestapi.tokens;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface StoredRefreshTokenRepository extends JpaRepository<StoredRefreshToken, String> {
+
+    @Query("select t.id from StoredRefreshToken t where t.expiresAt < :now")
+    List<String> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+}
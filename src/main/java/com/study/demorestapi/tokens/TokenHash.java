@@ -0,0 +1,32 @@
+package com.study.demorestapi.tokens;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 원문 대신 키로 쓰는 SHA-256 hex(64자). JWT 원문(수백 바이트)을 캐시 키나 DB에 그대로 두지 않는다.
+ */
+final class TokenHash {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TokenHash() {
+    }
+
+    static String of(String tokenValue) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
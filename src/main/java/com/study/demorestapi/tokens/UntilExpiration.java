@@ -0,0 +1,48 @@
+package com.study.demorestapi.tokens;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 토큰에 적힌 만료 시각까지(maximum 이 있으면 그보다 길지 않게). 만료 시각이 없으면 maximum 이나 용량 제한으로만 밀려난다.
+ */
+class UntilExpiration<K, V> implements Expiry<K, V> {
+
+    private final Function<V, Date> expiration;
+
+    private final long maximumNanos;
+
+    UntilExpiration(Function<V, Date> expiration) {
+        this(expiration, null);
+    }
+
+    UntilExpiration(Function<V, Date> expiration, Duration maximum) {
+        this.expiration = expiration;
+        this.maximumNanos = maximum == null ? Long.MAX_VALUE : maximum.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        final Date expiresAt = expiration.apply(value);
+        if (expiresAt == null) {
+            return maximumNanos;
+        }
+
+        final long remaining = TimeUnit.MILLISECONDS.toNanos(expiresAt.getTime() - System.currentTimeMillis());
+        return Math.max(0, Math.min(remaining, maximumNanos));
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -1,14 +1,19 @@
 package com.study.demorestapi.accounts;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +29,12 @@ class AccountServiceTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    AccountRepository accountRepository;
+
     @Test
     void findByUsername() {
         // Given
@@ -63,4 +74,80 @@ class AccountServiceTest {
             assertThat(e.getMessage()).contains("abc");
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("같은 사용자를 다시 찾으면 쿼리 없이 캐시에서, 권한은 join 한 번으로 읽는다")
+    @Test
+    void loadUserByUsername_cached() {
+        accountService.saveAccount(Account.builder()
+                .email("cached@a.com")
+                .password("1234")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final UserDetails first = accountService.loadUserByUsername("cached@a.com");
+        ((CredentialsContainer) first).eraseCredentials();
+        final UserDetails second = accountService.loadUserByUsername("cached@a.com");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(second.getAuthorities()).hasSize(2);
+        assertThat(passwordEncoder.matches("1234", second.getPassword())).isTrue();
+    }
+
+    @DisplayName("id 로 다시 읽는 계정과 roles 는 2차 캐시에서 쿼리 없이 나온다")
+    @Test
+    void findById_secondLevelCache() {
+        final Account account = accountService.saveAccount(Account.builder()
+                .email("l2@a.com")
+                .password("1234")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        accountRepository.findById(account.getId());
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final Account cached = accountRepository.findById(account.getId()).orElseThrow();
+
+        assertThat(cached.getRoles()).containsExactlyInAnyOrder(AccountRole.ADMIN, AccountRole.USER);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("account").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("account-roles").getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("saveAccount 로 바꾼 계정은 2차 캐시에서도 바뀐 값으로 읽힌다")
+    @Test
+    void saveAccount_updatesSecondLevelCache() {
+        final Account account = accountService.saveAccount(Account.builder()
+                .email("l2-update@a.com")
+                .password("1234")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        accountRepository.findById(account.getId());
+
+        account.setEmail("l2-updated@a.com");
+        account.setRoles(Set.of(AccountRole.USER, AccountRole.ADMIN));
+        accountService.saveAccount(account);
+
+        final Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(reloaded.getEmail()).isEqualTo("l2-updated@a.com");
+        assertThat(reloaded.getRoles()).containsExactlyInAnyOrder(AccountRole.ADMIN, AccountRole.USER);
+    }
+
+    @DisplayName("계정을 저장하면 캐시가 비워진다")
+    @Test
+    void saveAccount_evictsCache() {
+        final Account account = accountService.saveAccount(Account.builder()
+                .email("evict@a.com")
+                .password("1234")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        accountService.loadUserByUsername("evict@a.com");
+
+        account.setPassword("5678");
+        accountService.saveAccount(account);
+
+        assertThat(passwordEncoder.matches("5678", accountService.loadUserByUsername("evict@a.com").getPassword())).isTrue();
+    }
+}
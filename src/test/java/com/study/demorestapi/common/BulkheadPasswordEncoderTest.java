@@ -0,0 +1,107 @@
+package com.study.demorestapi.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("해시는 전용 스레드에서 돌고 지연 시간이 기록된다")
+    void encodeAndMatches() {
+        final BulkheadPasswordEncoder encoder = encoder(NoOpPasswordEncoder.getInstance(), 1, Duration.ofSeconds(5));
+
+        assertThat(encoder.encode("pass")).isEqualTo("pass");
+        assertThat(encoder.matches("pass", "pass")).isTrue();
+        assertThat(registry.get("password.encoder.latency").tag("operation", "encode").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("executor.queued").tag("name", "password.encoder").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 가득 차면 기다리지 않고 PasswordEncoderBusyException")
+    void rejectWhenFull() throws InterruptedException {
+        final BulkheadPasswordEncoder encoder = encoder(blocking(), 1, Duration.ofSeconds(5));
+
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        while (encoder.queued() < 1) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> encoder.matches("pass", "pass"))
+                .isInstanceOf(PasswordEncoderBusyException.class);
+        assertThat(registry.get("password.encoder.latency").tag("outcome", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 PasswordEncoderBusyException")
+    void timeout() {
+        final BulkheadPasswordEncoder encoder = encoder(blocking(), 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> encoder.encode("pass"))
+                .isInstanceOf(PasswordEncoderBusyException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 엔드포인트에서는 503 temporarily_unavailable 로 바뀐다")
+    void translate() throws Exception {
+        final ResponseEntity<OAuth2Exception> response = new BusyAwareWebResponseExceptionTranslator()
+                .translate(new IllegalStateException(new PasswordEncoderBusyException("busy", null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getOAuth2ErrorCode()).isEqualTo("temporarily_unavailable");
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+    }
+
+    private BulkheadPasswordEncoder encoder(PasswordEncoder delegate, int queueCapacity, Duration timeout) {
+        return new BulkheadPasswordEncoder(delegate, 1, queueCapacity, timeout, registry);
+    }
+
+    private PasswordEncoder blocking() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+
+            private void await() {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.demorestapi.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트에서는 기본적으로 Prometheus 같은 외부 registry 를 끄므로 켠다
+@AutoConfigureMetrics
+class PrometheusEndpointTest extends BaseControllerTest {
+
+    @Autowired
+    private AppProperties properties;
+
+    @DisplayName("핸들러별 요청 시간, 커넥션 풀, Hibernate, 토큰 저장소 메트릭을 Prometheus 형식으로 내보낸다")
+    @Test
+    void scrape() throws Exception {
+        final String token = getAdminToken();
+        mockMvc.perform(get("/api/events")).andExpect(status().isOk());
+
+        final String body = mockMvc.perform(get("/actuator/prometheus")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .containsPattern("http_server_requests_seconds_count\\{.*handler=\"EventController.queryEvents\"")
+                .containsPattern("http_server_requests_seconds_bucket\\{.*handler=\"TokenEndpoint.postAccessToken\"")
+                .contains("accounts_load_user_seconds_count{outcome=\"found\",}")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_statements_total")
+                .contains("hibernate_second_level_cache_requests_total{entityManagerFactory=\"entityManagerFactory\",region=\"account\",result=\"hit\",}")
+                .containsPattern("oauth2_tokens_stored\\{type=\"access\",} [1-9]");
+    }
+
+    @DisplayName("관리자가 아니면 메트릭을 볼 수 없다")
+    @Test
+    void scrape_anonymous() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String getAdminToken() throws Exception {
+        final String response = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getAdminUsername())
+                .param("password", properties.getAdminPassword())
+                .param("grant_type", "password"))
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(response).get("access_token").toString();
+    }
+}
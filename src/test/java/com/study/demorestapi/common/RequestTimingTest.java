@@ -0,0 +1,63 @@
+package com.study.demorestapi.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @DisplayName("겹친 단계의 시간은 가장 안쪽 단계에만 더한다")
+    @Test
+    void nestedPhases() throws Exception {
+        final RequestTiming timing = RequestTiming.begin();
+        timing.handlerStarted();
+        try (RequestTiming.Scope validation = RequestTiming.phase(RequestTiming.Phase.VALIDATION)) {
+            Thread.sleep(5);
+            try (RequestTiming.Scope db = RequestTiming.phase(RequestTiming.Phase.DB)) {
+                Thread.sleep(20);
+            }
+        }
+        timing.stop();
+
+        assertThat(timing.nanos(RequestTiming.Phase.DB)).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(timing.nanos(RequestTiming.Phase.VALIDATION))
+                .isGreaterThanOrEqualTo(5_000_000L)
+                .isLessThan(timing.nanos(RequestTiming.Phase.DB));
+        long sum = 0;
+        for (RequestTiming.Phase phase : RequestTiming.Phase.values()) {
+            sum += timing.nanos(phase);
+        }
+        assertThat(sum).isEqualTo(timing.total());
+        assertThat(timing.header()).contains("validation;dur=", "db;dur=", "total;dur=").doesNotContain("mapping");
+    }
+
+    @DisplayName("닫지 않은 단계는 핸들러가 끝날 때 정리된다")
+    @Test
+    void handlerCompleted_unwinds() {
+        final RequestTiming timing = RequestTiming.begin();
+        timing.handlerStarted();
+        timing.serializationStarted();
+        RequestTiming.phase(RequestTiming.Phase.DB);
+        timing.handlerCompleted();
+        final long serialization = timing.nanos(RequestTiming.Phase.SERIALIZATION);
+
+        timing.stop();
+
+        assertThat(timing.nanos(RequestTiming.Phase.SERIALIZATION)).isEqualTo(serialization);
+    }
+
+    @DisplayName("요청 밖에서는 아무 것도 세지 않는다")
+    @Test
+    void outsideRequest() {
+        try (RequestTiming.Scope scope = RequestTiming.phase(RequestTiming.Phase.DB)) {
+            assertThat(RequestTiming.current()).isNull();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.demorestapi.common;
+
+import com.study.demorestapi.events.EventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServerTimingFilterTest extends BaseControllerTest {
+
+    @Autowired
+    private AppProperties properties;
+
+    @DisplayName("이벤트 생성 응답의 Server-Timing 에 단계별 시간이 담긴다")
+    @Test
+    void createEvent() throws Exception {
+        final String token = getAuthToken();
+        final EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("spring")
+                .beginEnrollmentDateTime(LocalDateTime.now())
+                .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                .beginEventDateTime(LocalDateTime.now().plusDays(2))
+                .endEventDateTime(LocalDateTime.now().plusDays(3))
+                .location("korea")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+
+        mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(mapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING, allOf(
+                        containsString("security;dur="),
+                        containsString("validation;dur="),
+                        containsString("mapping;dur="),
+                        containsString("db;dur="),
+                        containsString("serialization;dur="),
+                        containsString("total;dur="))));
+    }
+
+    @DisplayName("토큰 발급은 클라이언트 인증과 비밀번호 확인을 hash 로 센다")
+    @Test
+    void token() throws Exception {
+        mockMvc.perform(tokenRequest())
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING, allOf(
+                        containsString("hash;dur="),
+                        containsString("serialization;dur="),
+                        containsString("total;dur="))));
+    }
+
+    @DisplayName("인증에 실패한 요청은 시큐리티 필터 체인 시간만 있다")
+    @Test
+    void unauthorized() throws Exception {
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING, allOf(
+                        containsString("security;dur="),
+                        containsString("total;dur="),
+                        not(containsString("app;dur=")))));
+    }
+
+    @DisplayName("비동기 응답(내보내기)에는 붙이지 않는다")
+    @Test
+    void export() throws Exception {
+        mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "my-app.server-timing-header=false")
+    class HeaderDisabled extends BaseControllerTest {
+
+        @DisplayName("헤더를 끄면 본문을 쓰는 응답에도 붙이지 않는다")
+        @Test
+        void token() throws Exception {
+            mockMvc.perform(tokenRequest())
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING));
+        }
+
+        @DisplayName("헤더를 끄면 본문이 없는 응답에도 붙이지 않는다")
+        @Test
+        void unauthorized() throws Exception {
+            mockMvc.perform(post("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING));
+        }
+    }
+
+    private String getAuthToken() throws Exception {
+        final String response = mockMvc.perform(tokenRequest())
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(response).get("access_token").toString();
+    }
+
+    private org.springframework.test.web.servlet.RequestBuilder tokenRequest() {
+        return post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getUserUsername())
+                .param("password", properties.getUserPassword())
+                .param("grant_type", "password");
+    }
+}
@@ -0,0 +1,121 @@
+package com.study.demorestapi.configs;
+
+import com.jayway.jsonpath.JsonPath;
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountRepository;
+import com.study.demorestapi.accounts.AccountRole;
+import com.study.demorestapi.accounts.AccountService;
+import com.study.demorestapi.common.AppProperties;
+import com.study.demorestapi.common.BaseControllerTest;
+import com.study.demorestapi.events.EventDto;
+import com.study.demorestapi.events.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "my-app.token-store=jwt")
+class JwtAuthServerConfigTest extends BaseControllerTest {
+
+    @Autowired
+    private AppProperties properties;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TokenStore tokenStore;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        account = accountService.saveAccount(Account.builder()
+                .email(properties.getUserUsername())
+                .password(properties.getUserPassword())
+                .roles(Set.of(AccountRole.USER))
+                .build());
+    }
+
+    @DisplayName("JWT access 토큰으로 저장소 조회 없이 인증한다")
+    @Test
+    void jwtAccessToken() throws Exception {
+        final String response = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getUserUsername())
+                .param("password", properties.getUserPassword())
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        final String accessToken = JsonPath.read(response, "$.access_token");
+        assertThat(accessToken.split("\\.")).hasSize(3);
+
+        mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(mapper.writeValueAsString(EventDto.builder()
+                        .name("Spring")
+                        .description("spring")
+                        .beginEnrollmentDateTime(LocalDateTime.now())
+                        .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                        .beginEventDateTime(LocalDateTime.now())
+                        .endEventDateTime(LocalDateTime.now().plusDays(1))
+                        .limitOfEnrollment(100)
+                        .build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("manager.id").value(account.getId()))
+                .andExpect(jsonPath("_links.update-event").exists());
+    }
+
+    @DisplayName("폐기한 refresh 토큰으로는 재발급 받을 수 없다")
+    @Test
+    void revokedRefreshToken() throws Exception {
+        final String response = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getUserUsername())
+                .param("password", properties.getUserPassword())
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        final String refreshToken = JsonPath.read(response, "$.refresh_token");
+
+        mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("refresh_token", refreshToken)
+                .param("grant_type", "refresh_token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("access_token").exists());
+
+        tokenStore.removeRefreshToken(new DefaultOAuth2RefreshToken(refreshToken));
+
+        mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("refresh_token", refreshToken)
+                .param("grant_type", "refresh_token"))
+                .andExpect(status().is4xxClientError());
+    }
+}
@@ -7,23 +7,37 @@ import com.study.demorestapi.accounts.AccountService;
 import com.study.demorestapi.common.AppProperties;
 import com.study.demorestapi.common.BaseControllerTest;
 import com.study.demorestapi.common.TestDescription;
+import com.jayway.jsonpath.JsonPath;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -32,6 +46,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,10 +65,35 @@ public class EventControllerTest extends BaseControllerTest {
     @Autowired
     AppProperties properties;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    EventCounter eventCounter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // 수정 요청이 읽고 저장하는 사이에 다른 노드의 수정을 끼워 넣는다
+    @SpyBean
+    EventMapper eventMapper;
+
     @BeforeEach
     void setUp() {
         eventRepository.deleteAll();
         accountRepository.deleteAll();
+        cacheManager.getCache(EventService.EVENTS_CACHE).clear();
+        cacheManager.getCache(AccountService.ACCOUNTS_CACHE).clear();
+        eventSearchIndex.clear();
     }
 
     @DisplayName("인증 토큰 발급")
@@ -201,6 +241,252 @@ public class EventControllerTest extends BaseControllerTest {
                 .andDo(document("get-events"));
     }
 
+    @DisplayName("상태, 기간, 가격, 관리자로 걸러서 목록 조회")
+    @Test
+    void queryEvents_filter() throws Exception {
+        getAuthToken();
+        final Account other = accountRepository.save(Account.builder()
+                .email("other@a.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        IntStream.range(0, 20).forEach(i -> {
+            final Event event = generateEvent(i, i % 4 == 0 ? other : accountRepository.findByEmail(properties.getUserUsername()).get());
+            event.setEventStatus(i % 2 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            event.setBeginEventDateTime(LocalDateTime.of(2026, 11, 1, 10, 0).plusDays(i));
+            event.setBasePrice(i * 10);
+            eventRepository.save(event);
+        });
+
+        mockMvc.perform(get("/api/events?eventStatus=PUBLISHED&eventFrom=2026-11-03T00:00:00&eventTo=2026-11-15T00:00:00" +
+                        "&priceFrom=50&size=2&sort=id,ASC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(4))
+                .andExpect(jsonPath("_embedded.eventList[*].name", Matchers.contains("event 6", "event 8")))
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("eventStatus=PUBLISHED")))
+                .andDo(document("get-events-filter"));
+
+        mockMvc.perform(get("/api/events")
+                        .param("manager", String.valueOf(other.getId()))
+                        .param("priceTo", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(3));
+    }
+
+    @DisplayName("count=false 면 COUNT 쿼리 없이 다음 페이지 여부만 알려준다")
+    @Test
+    void queryEventsSlice() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 25).forEach(this::generateEvent);
+        eventCounter.recount();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/events?count=false&page=1&size=10&sort=id,DESC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("page=2")))
+                .andExpect(jsonPath("_links.prev.href", Matchers.containsString("page=0")))
+                .andExpect(jsonPath("_links.first.href", Matchers.containsString("count=false")))
+                .andExpect(jsonPath("_links.count.href").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("get-events-slice"));
+        assertThat(statistics.getQueries()).noneMatch(q -> q.contains("count("));
+
+        mockMvc.perform(get("/api/events?count=false&page=2&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+
+        mockMvc.perform(get("/api/events?count=false&priceTo=100&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("priceTo=100")))
+                .andExpect(jsonPath("_links.count").doesNotExist());
+    }
+
+    @DisplayName("이벤트 총 개수는 COUNT 없이 만든 만큼 늘어난 값")
+    @Test
+    void countEvents() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 3).forEach(this::generateEvent);
+        eventCounter.recount();
+        eventService.saveEvent(Event.builder().name("new").build());
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/events/count"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("count").value(4))
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andDo(document("count-events"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("검색어로 이벤트 검색")
+    @Test
+    void searchEvents() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 15).forEach(i -> {
+            final Event event = generateEvent(i);
+            event.setDescription(i % 3 == 0 ? "spring study" : "jpa study");
+            eventService.saveEvent(event);
+        });
+
+        mockMvc.perform(get("/api/events/search?q=Spring study&size=2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.next.href", Matchers.containsString("q=Spring")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("search-events"));
+
+        mockMvc.perform(get("/api/events/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("검색 결과를 벗어난 페이지는 빈 목록, int 범위를 넘는 페이지는 Bad Request")
+    @Test
+    void searchEvents_outOfRangePage() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 5).forEach(i -> {
+            final Event event = generateEvent(i);
+            event.setDescription("spring study");
+            eventService.saveEvent(event);
+        });
+
+        mockMvc.perform(get("/api/events/search?q=spring&page=3&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded").doesNotExist());
+
+        mockMvc.perform(get("/api/events/search?q=spring&page=2000000000&size=20"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("페이지 크기와 관계없이 목록 조회 쿼리 수는 일정")
+    @Test
+    void queryEvents_statementCount() throws Exception {
+        final List<Account> managers = IntStream.range(0, 10)
+                .mapToObj(i -> accountRepository.save(Account.builder()
+                        .email("manager" + i + "@a.com")
+                        .password("pass")
+                        .roles(Set.of(AccountRole.USER))
+                        .build()))
+                .collect(Collectors.toList());
+        IntStream.range(0, 40).forEach(i -> generateEvent(i, managers.get(i % managers.size())));
+
+        final long small = countStatements(get("/api/events").param("size", "5"));
+        final long large = countStatements(get("/api/events").param("size", "20"));
+
+        assertThat(small).isEqualTo(large);
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").exists());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @DisplayName("커서로 이벤트 29개 전체 순회")
+    @Test
+    void queryEventsByCursor() throws Exception {
+        getAuthToken();
+        IntStream.range(1, 30).forEach(this::generateEvent);
+
+        final String first = mockMvc.perform(get("/api/events")
+                        .param("cursor", "")
+                        .param("size", "10")
+                        .param("sort", "name,DESC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self.href").exists())
+                .andExpect(jsonPath("_links.next.href").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile.href").exists())
+                .andDo(document("get-events-cursor"))
+                .andReturn().getResponse().getContentAsString();
+
+        final String second = mockMvc.perform(get(JsonPath.<String>read(first, "$._links.next.href")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.prev.href").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        final String lastNameOfFirst = JsonPath.read(first, "$._embedded.eventList[9].name");
+        final String firstNameOfSecond = JsonPath.read(second, "$._embedded.eventList[0].name");
+        assertThat(firstNameOfSecond).isLessThan(lastNameOfFirst);
+
+        mockMvc.perform(get(JsonPath.<String>read(second, "$._links.next.href")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(9))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+
+        mockMvc.perform(get(JsonPath.<String>read(second, "$._links.prev.href")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[9].name").value(lastNameOfFirst))
+                .andExpect(jsonPath("_links.prev").doesNotExist());
+    }
+
+    @DisplayName("잘못된 커서는 400 응답")
+    @Test
+    void queryEventsByCursor_malformed() throws Exception {
+        mockMvc.perform(get("/api/events").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("커서 조회에 검색 조건을 함께 주면 400 응답")
+    @Test
+    void queryEventsByCursor_withFilter() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 3).forEach(this::generateEvent);
+
+        mockMvc.perform(get("/api/events?cursor=&size=2&priceTo=100"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events?cursor=&size=2&free=true"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events?cursor=&size=2"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("이벤트 전체를 NDJSON 으로 내보내기")
+    @Test
+    void exportEvents() throws Exception {
+        getAuthToken();
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        final MvcResult asyncResult = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andDo(document("export-events"))
+                .andReturn().getResponse().getContentAsString();
+
+        final List<String> lines = body.lines().collect(Collectors.toList());
+        assertThat(lines).hasSize(30);
+        assertThat(JsonPath.<String>read(lines.get(0), "$.name")).isEqualTo("event 0");
+        assertThat(JsonPath.<Integer>read(lines.get(29), "$.manager.id")).isNotNull();
+    }
+
     @DisplayName("이벤트 조회")
     @Test
     void getEvent() throws Exception {
@@ -235,6 +521,84 @@ public class EventControllerTest extends BaseControllerTest {
                 .andDo(document("get-event"));
     }
 
+    @DisplayName("이벤트 재조회는 캐시에서 응답하고 수정하면 무효화")
+    @Test
+    void getEvent_cached() throws Exception {
+        final String authToken = getAuthToken();
+        final Event event = generateEvent(100);
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(event.getName()));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        final EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("updated event");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("updated event"));
+    }
+
+    @DisplayName("ETag가 같으면 version만 조회하고 304 응답")
+    @Test
+    void getEvent_notModified() throws Exception {
+        final String authToken = getAuthToken();
+        final Event event = generateEvent(100);
+
+        final String etag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // 관리자에게는 update-event 링크가 있는 다른 표현이 내려간다
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+    }
+
+    @DisplayName("목록도 ETag가 같으면 304 응답")
+    @Test
+    void queryEvents_notModified() throws Exception {
+        getAuthToken();
+        IntStream.range(1, 10).forEach(this::generateEvent);
+
+        final String etag = mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        generateEvent(10);
+
+        mockMvc.perform(get("/api/events").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @DisplayName("없는 이벤트 조회했을 때 404 응답받기")
     @Test
     void getEvent404() throws Exception {
@@ -263,6 +627,72 @@ public class EventControllerTest extends BaseControllerTest {
                 .andDo(document("update-event"));
     }
 
+    @DisplayName("If-Match가 현재 version과 다르면 412와 현재 상태 응답")
+    @Test
+    void updateEvent412_staleIfMatch() throws Exception {
+        final String authToken = getAuthToken();
+        final Event event = generateEvent(200);
+        final EventDto eventDto = modelMapper.map(event, EventDto.class);
+
+        final String etag = mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventDto.setName("first editor");
+        final String newEtag = mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventDto.setName("second editor");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag))
+                .andExpect(jsonPath("name").value("first editor"));
+    }
+
+    @DisplayName("If-Match 없이 수정하는 사이 다른 곳에서 먼저 수정하면 409 와 현재 이벤트를 응답")
+    @Test
+    void updateEvent409_concurrentUpdate() throws Exception {
+        final String authToken = getAuthToken();
+        final Event event = generateEvent(200);
+        final EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("late editor");
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            jdbcTemplate.update("update event set name = ?, version = version + 1 where id = ?",
+                    "other node", event.getId());
+            return null;
+        }).when(eventMapper).update(any(EventDto.class), any(Event.class));
+
+        final MvcResult result = mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("name").value("other node"))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn();
+
+        final Event current = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(current.getName()).isEqualTo("other node");
+        assertThat(current.getVersion()).isEqualTo(event.getVersion() + 1);
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "bearer " + authToken))
+                .andExpect(header().string(HttpHeaders.ETAG, result.getResponse().getHeader(HttpHeaders.ETAG)));
+    }
+
     @DisplayName("이벤트 수정 실패 (인증 실패)")
     @Test
     void updateEvent() throws Exception {
@@ -329,6 +759,10 @@ public class EventControllerTest extends BaseControllerTest {
     private Event generateEvent(int i) {
         final Optional<Account> account = accountRepository.findByEmail(properties.getUserUsername());
 
+        return generateEvent(i, account.get());
+    }
+
+    private Event generateEvent(int i, Account manager) {
         Event event = Event.builder()
                 .name("event " + i)
                 .description("test " + i)
@@ -340,7 +774,7 @@ public class EventControllerTest extends BaseControllerTest {
                 .basePrice(100)
                 .maxPrice(200)
                 .limitOfEnrollment(100)
-                .manager(Account.builder().id(account.get().getId()).build())
+                .manager(Account.builder().id(manager.getId()).build())
                 .build();
 
         return eventRepository.save(event);
@@ -417,4 +851,179 @@ public class EventControllerTest extends BaseControllerTest {
             .andExpect(jsonPath("errors[0].defaultMessage").exists())
             .andExpect(jsonPath("_links.index").exists());
     }
+
+    @DisplayName("여러 이벤트를 한 번에 생성하면 insert가 JDBC batch로 묶인다")
+    @Test
+    void createEvents_batch() throws Exception {
+        final String token = getAuthToken();
+        final List<EventDto> eventDtos = IntStream.range(0, 20)
+                .mapToObj(this::generateEventDto)
+                .collect(Collectors.toList());
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(mapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("count").value(20))
+                .andExpect(jsonPath("ids.length()").value(20))
+                .andExpect(jsonPath("itemsPerSecond").exists())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events-batch"));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        // pooled-lo sequence 한 번(풀이 남아 있으면 0번) + batch insert 한 번
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(eventRepository.count()).isEqualTo(20);
+    }
+
+    @DisplayName("NDJSON으로 여러 이벤트 생성")
+    @Test
+    void createEvents_batchNdjson() throws Exception {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            body.append(mapper.writeValueAsString(generateEventDto(i))).append('\n');
+        }
+
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAuthToken())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(body.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("count").value(3));
+
+        assertThat(eventRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("하나라도 검증에 실패하면 항목별 에러를 응답하고 아무것도 저장하지 않는다")
+    @Test
+    void createEvents_batch400() throws Exception {
+        final EventDto wrongPrice = generateEventDto(1);
+        wrongPrice.setBasePrice(300);
+        final EventDto empty = EventDto.builder().build();
+
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAuthToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(mapper.writeValueAsString(List.of(generateEventDto(0), wrongPrice, empty))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[?(@.field == '[1].basePrice')]").exists())
+                .andExpect(jsonPath("errors[?(@.field == '[2].name')]").exists())
+                .andExpect(jsonPath("errors[?(@.field =~ /\\[0\\].*/)]").isEmpty())
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @DisplayName("null 항목은 서버 에러가 아니라 항목 에러로 응답한다")
+    @Test
+    void createEvents_batchNullItem() throws Exception {
+        final String token = getAuthToken();
+        final String valid = mapper.writeValueAsString(generateEventDto(0));
+
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content("[" + valid + ", null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[?(@.field == '[1]')].defaultMessage").value("must not be null"));
+
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(valid + "\nnull\n"))
+                .andExpect(status().isBadRequest());
+
+        // 가져오기는 null 줄을 레코드로 읽으므로 줄 단위 에러로 보고한다
+        mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(valid + "\nnull\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("imported").value(1))
+                .andExpect(jsonPath("errors[?(@.line == 2 && @.code == 'NotNull')]").exists());
+
+        assertThat(eventRepository.count()).isOne();
+    }
+
+    @DisplayName("NDJSON 가져오기는 올바른 줄은 저장하고 잘못된 줄은 줄 번호와 함께 보고한다")
+    @Test
+    void importEvents_ndjson() throws Exception {
+        final EventDto wrongPrice = generateEventDto(1);
+        wrongPrice.setBasePrice(300);
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 45; i++) {
+            body.append(mapper.writeValueAsString(i == 20 ? wrongPrice : generateEventDto(i))).append('\n');
+        }
+        body.append("{not json\n");
+
+        mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAuthToken())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(body.toString()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total").value(46))
+                .andExpect(jsonPath("imported").value(44))
+                .andExpect(jsonPath("failed").value(2))
+                .andExpect(jsonPath("errors[?(@.line == 21 && @.field == 'basePrice')]").exists())
+                .andExpect(jsonPath("errors[?(@.line == 46 && @.code == 'parse')]").exists())
+                .andExpect(jsonPath("errorsTruncated").value(false))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("import-events"));
+
+        assertThat(eventRepository.count()).isEqualTo(44);
+    }
+
+    @DisplayName("CSV 가져오기는 첫 줄을 헤더로 읽는다")
+    @Test
+    void importEvents_csv() throws Exception {
+        final String body = "name,description,beginEnrollmentDateTime,closeEnrollmentDateTime,beginEventDateTime,endEventDateTime,location,basePrice,maxPrice,limitOfEnrollment\n" +
+                "event 0,test 0,2026-11-01T10:00,2026-11-02T10:00,2026-11-03T10:00,2026-11-04T10:00,korea,100,200,100\n" +
+                "event 1,test 1,2026-11-01T10:00,2026-11-02T10:00,2026-11-03T10:00,2026-11-04T10:00,,0,0,10\n" +
+                "event 2,test 2,not-a-date,2026-11-02T10:00,2026-11-03T10:00,2026-11-04T10:00,korea,100,200,100\n" +
+                "event 3,test 3,2026-11-01T10:00,2026-10-01T10:00,2026-11-03T10:00,2026-11-04T10:00,korea,100,200,100\n";
+
+        mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAuthToken())
+                .contentType("text/csv")
+                .accept(MediaTypes.HAL_JSON)
+                .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total").value(4))
+                .andExpect(jsonPath("imported").value(2))
+                .andExpect(jsonPath("errors[?(@.line == 4 && @.code == 'parse')]").exists())
+                .andExpect(jsonPath("errors[?(@.line == 5 && @.code == 'time wrong')]").exists());
+
+        assertThat(eventRepository.findAll()).extracting(Event::getName).containsExactlyInAnyOrder("event 0", "event 1");
+    }
+
+    private EventDto generateEventDto(int i) {
+        return EventDto.builder()
+                .name("event " + i)
+                .description("test " + i)
+                .beginEnrollmentDateTime(LocalDateTime.now())
+                .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                .beginEventDateTime(LocalDateTime.now())
+                .endEventDateTime(LocalDateTime.now().plusDays(1))
+                .location("korea")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+    }
 }
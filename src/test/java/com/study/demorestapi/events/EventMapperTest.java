@@ -0,0 +1,57 @@
+package com.study.demorestapi.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final EventDto eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+            .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+            .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+            .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .build();
+
+    @Test
+    @DisplayName("ModelMapper와 같은 Event를 만든다")
+    public void toEvent() {
+        final Event event = eventMapper.toEvent(eventDto);
+
+        assertThat(event).usingRecursiveComparison().isEqualTo(modelMapper.map(eventDto, Event.class));
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    @DisplayName("기존 Event에 덮어쓸 때 id, 상태는 유지하고 null 값도 그대로 옮긴다")
+    public void update() {
+        final Event expected = Event.builder().id(1).location("강남역").eventStatus(EventStatus.PUBLISHED).build();
+        final Event actual = Event.builder().id(1).location("강남역").eventStatus(EventStatus.PUBLISHED).build();
+
+        modelMapper.map(eventDto, expected);
+        eventMapper.update(eventDto, actual);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(actual.getId()).isEqualTo(1);
+        assertThat(actual.getLocation()).isNull();
+    }
+
+    @Test
+    public void toDto() {
+        final Event event = eventMapper.toEvent(eventDto);
+
+        assertThat(eventMapper.toDto(event)).isEqualTo(eventDto);
+    }
+}
@@ -0,0 +1,151 @@
+package com.study.demorestapi.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexTest {
+
+    private final EventSearchIndex index = new EventSearchIndex();
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 이벤트만, name 에서 찾은 것을 먼저")
+    void search() {
+        index.put(1, "Spring 스터디", "매주 모임", "강남");
+        index.put(2, "JPA 스터디", "Spring data jpa 를 같이 본다", "판교");
+        index.put(3, "Spring Boot", "스터디", null);
+
+        assertThat(index.search("spring 스터디", 0, 10).getIds()).containsExactly(1, 3, 2);
+        assertThat(index.search("SPRING", 0, 10).getIds()).containsExactly(3, 1, 2);
+        assertThat(index.search("jpa", 0, 10).getIds()).containsExactly(2);
+        assertThat(index.search("판교", 0, 10).getIds()).containsExactly(2);
+        assertThat(index.search("없는단어 spring", 0, 10).getTotal()).isZero();
+        assertThat(index.search("  ", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("페이지를 넘겨도 전체 건수는 같고 순위가 이어진다")
+    void paging() {
+        for (int i = 1; i <= 25; i++) {
+            index.put(i, "event " + i, "test", "korea");
+        }
+
+        final EventSearchIndex.Hits first = index.search("event", 0, 10);
+        final EventSearchIndex.Hits last = index.search("event", 20, 10);
+
+        assertThat(first.getTotal()).isEqualTo(25);
+        assertThat(first.getIds()).hasSize(10).startsWith(25, 24);
+        assertThat(last.getTotal()).isEqualTo(25);
+        assertThat(last.getIds()).containsExactly(5, 4, 3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지는 전체 건수만 주고 비어 있다")
+    void paging_outOfRange() {
+        for (int i = 1; i <= 5; i++) {
+            index.put(i, "event " + i, "test", "korea");
+        }
+
+        final EventSearchIndex.Hits beyond = index.search("event", 5, 10);
+        final EventSearchIndex.Hits huge = index.search("event", Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+
+        assertThat(beyond.getTotal()).isEqualTo(5);
+        assertThat(beyond.getIds()).isEmpty();
+        assertThat(huge.getTotal()).isEqualTo(5);
+        assertThat(huge.getIds()).isEmpty();
+        assertThat(index.search("event", 3, Integer.MAX_VALUE).getIds()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 단어로는 더 이상 찾을 수 없다")
+    void update() {
+        index.put(1, "old name", "desc", null);
+        index.put(1, "new name", "desc", null);
+        index.remove(2);
+
+        assertThat(index.search("old", 0, 10).getTotal()).isZero();
+        assertThat(index.search("new", 0, 10).getIds()).containsExactly(1);
+        assertThat(index.footprint().getDocuments()).isEqualTo(1);
+        assertThat(index.footprint().getTerms()).isEqualTo(3);
+        assertThat(index.footprint().getPostings()).isEqualTo(3);
+
+        index.remove(1);
+
+        assertThat(index.footprint().getTerms()).isZero();
+        assertThat(index.footprint().getPostings()).isZero();
+        assertThat(index.footprint().getEstimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("색인 크기를 메트릭으로 내보낸다")
+    void metrics() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        index.bindTo(registry);
+        index.put(1, "name", "description", "location");
+
+        assertThat(registry.get("events.search.index.documents").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("events.search.index.size").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("크기는 넣고 지울 때마다 세어 두고, 배열이 늘어난 만큼 커진다")
+    void footprint() {
+        for (int i = 1; i <= 5; i++) {
+            index.put(i, "event", null, null);
+        }
+        final EventSearchIndex.Footprint five = index.footprint();
+        index.put(3, "event", "again", null);
+        index.put(6, "event", null, null);
+
+        assertThat(five.getPostings()).isEqualTo(5);
+        assertThat(index.footprint().getPostings()).isEqualTo(7);
+        assertThat(index.footprint().getEstimatedBytes()).isGreaterThan(five.getEstimatedBytes());
+
+        for (int i = 1; i <= 6; i++) {
+            index.remove(i);
+        }
+
+        assertThat(index.footprint()).isEqualTo(new EventSearchIndex.Footprint(0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 검색은 이전 색인을 보고, 그 사이 바뀐 이벤트는 읽어 온 행보다 우선한다")
+    void rebuild() {
+        index.put(1, "old", "desc", null);
+        index.put(2, "old", "desc", null);
+
+        try (EventSearchIndex.Rebuild rebuild = index.rebuild()) {
+            rebuild.put(1, "stale", "desc", null);
+            rebuild.put(2, "stale", "desc", null);
+            rebuild.put(3, "stale", "desc", null);
+            index.put(1, "fresh", "desc", null);
+            index.remove(3);
+
+            assertThat(index.search("old", 0, 10).getIds()).containsExactly(2);
+            assertThat(index.search("stale", 0, 10).getTotal()).isZero();
+
+            rebuild.commit();
+        }
+
+        assertThat(index.search("fresh", 0, 10).getIds()).containsExactly(1);
+        assertThat(index.search("stale", 0, 10).getIds()).containsExactly(2);
+        assertThat(index.search("old", 0, 10).getTotal()).isZero();
+        assertThat(index.footprint().getDocuments()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("commit 하지 않은 rebuild 는 버려지고 더 이상 변경을 모으지 않는다")
+    void rebuild_abandoned() {
+        index.put(1, "old", "desc", null);
+
+        final EventSearchIndex.Rebuild abandoned = index.rebuild();
+        abandoned.put(1, "stale", "desc", null);
+        abandoned.close();
+        abandoned.commit();
+
+        assertThat(index.search("old", 0, 10).getIds()).containsExactly(1);
+        assertThat(index.search("stale", 0, 10).getTotal()).isZero();
+    }
+}
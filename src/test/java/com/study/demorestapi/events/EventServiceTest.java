@@ -0,0 +1,92 @@
+package com.study.demorestapi.events;
+
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountRepository;
+import com.study.demorestapi.accounts.AccountRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventServiceTest {
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("동시에 같은 이벤트를 조회하면 쿼리는 한 번만 실행")
+    @Test
+    void findEvent_concurrentMisses() throws Exception {
+        final Account manager = accountRepository.save(Account.builder()
+                .email("burst@a.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        final Event event = eventRepository.save(Event.builder()
+                .name("hot event")
+                .description("hot")
+                .beginEnrollmentDateTime(LocalDateTime.now())
+                .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                .beginEventDateTime(LocalDateTime.now())
+                .endEventDateTime(LocalDateTime.now().plusDays(1))
+                .manager(manager)
+                .build());
+        cacheManager.getCache(EventService.EVENTS_CACHE).clear();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final int threads = 64;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Optional<Event>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return eventService.findEvent(event.getId());
+                }));
+            }
+            start.countDown();
+
+            final Event first = results.get(0).get().orElseThrow();
+            for (Future<Optional<Event>> result : results) {
+                assertThat(result.get()).containsSame(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
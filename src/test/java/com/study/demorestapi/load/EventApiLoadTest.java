@@ -0,0 +1,363 @@
+package com.study.demorestapi.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.demorestapi.common.AppProperties;
+import com.study.demorestapi.events.EventDto;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실제 포트로 띄운 애플리케이션에 토큰 발급, 생성, 목록, 조회, 수정을 섞어 보내는 부하 테스트.
+ * 가상 사용자마다 응답을 받으면 바로 다음 요청을 보내고(closed loop), warmup 뒤의 지연 시간만 HdrHistogram 에 남긴다.
+ * 결과는 target/load 에 쓰고 baseline.properties 의 p99, 처리량과 비교한다. 기본 빌드에서는 빠진다(-Pload).
+ * 기준값은 기계마다 달라서 저장소에 두지 않는다. 없으면 비교를 건너뛰니 각자 -Dload.updateBaseline=true 로 먼저 기록한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+class EventApiLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT20S"));
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "1.5"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.updateBaseline");
+
+    private static final Path BASELINE = Path.of("src/test/resources/load/baseline.properties");
+    private static final Path REPORT_DIR = Path.of("target/load");
+
+    private static final int SEED_EVENTS = 100;
+
+    enum Operation {
+        TOKEN(5), CREATE(15), LIST(40), GET(30), UPDATE(10);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException();
+        }
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    AppProperties properties;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final List<Integer> eventIds = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    @Test
+    @DisplayName("섞인 요청을 동시에 보내고 p99, 처리량을 기준값과 비교")
+    void mixedWorkload() throws Exception {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+
+        final String seedToken = token();
+        for (int i = 0; i < SEED_EVENTS; i++) {
+            create(seedToken);
+        }
+
+        final long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        final long until = measureFrom + DURATION.toNanos();
+        final ExecutorService users = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(users.submit(() -> {
+                    runUser(measureFrom, until);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            users.shutdownNow();
+        }
+
+        final Properties summary = report();
+        if (UPDATE_BASELINE) {
+            writeBaseline(summary);
+            return;
+        }
+
+        compareWithBaseline(summary);
+    }
+
+    private void runUser(long measureFrom, long until) throws IOException, InterruptedException {
+        String token = token();
+        long now;
+        while ((now = System.nanoTime()) < until) {
+            final Operation operation = Operation.pick(ThreadLocalRandom.current().nextInt(100));
+            final int status;
+            switch (operation) {
+                case TOKEN:
+                    // 발급에 실패해도 가진 토큰은 아직 유효하다. null 로 바꾸면 이후 요청이 모두 401 로 번진다
+                    final String issued = token();
+                    status = issued == null ? 0 : 200;
+                    if (issued != null) {
+                        token = issued;
+                    }
+                    break;
+                case CREATE:
+                    status = create(token);
+                    break;
+                case LIST:
+                    status = send(get("/api/events?page=0&size=20&sort=id,DESC", token));
+                    break;
+                case GET:
+                    status = send(get("/api/events/" + randomEventId(), token));
+                    break;
+                default:
+                    status = send(authorized(URI.create(baseUrl() + "/api/events/" + randomEventId()), token)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(eventDto("updated"))))
+                            .build());
+                    break;
+            }
+
+            if (now >= measureFrom) {
+                recorders.get(operation).recordValue((System.nanoTime() - now) / 1_000);
+                // 수정끼리 같은 이벤트를 건드리면 409 가 정상이다
+                if (status / 100 != 2 && !(operation == Operation.UPDATE && status == 409)) {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+    }
+
+    private String token() throws IOException, InterruptedException {
+        final String form = "grant_type=password" +
+                "&username=" + URLEncoder.encode(properties.getAdminUsername(), StandardCharsets.UTF_8) +
+                "&password=" + URLEncoder.encode(properties.getAdminPassword(), StandardCharsets.UTF_8);
+        final String basic = Base64.getEncoder().encodeToString(
+                (properties.getClientId() + ":" + properties.getClientSecret()).getBytes(StandardCharsets.UTF_8));
+        final HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl() + "/oauth/token"))
+                .header(HttpHeaders.AUTHORIZATION, "Basic " + basic)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        return response.statusCode() == 200 ? objectMapper.readTree(response.body()).path("access_token").asText() : null;
+    }
+
+    private int create(String token) throws IOException, InterruptedException {
+        final HttpResponse<String> response = client.send(authorized(URI.create(baseUrl() + "/api/events"), token)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(eventDto("load"))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 201) {
+            final JsonNode body = objectMapper.readTree(response.body());
+            eventIds.add(body.path("id").asInt());
+        }
+
+        return response.statusCode();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return authorized(URI.create(baseUrl() + path), token).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(URI uri, String token) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int randomEventId() {
+        synchronized (eventIds) {
+            return eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size()));
+        }
+    }
+
+    private EventDto eventDto(String name) {
+        final LocalDateTime now = LocalDateTime.now();
+        return EventDto.builder()
+                .name(name)
+                .description("load test")
+                .beginEnrollmentDateTime(now)
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .location("korea")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * 연산별 HdrHistogram 분포(.hgrm, ms)와 요약(summary.properties)을 쓰고 표로 출력한다.
+     */
+    private Properties report() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        final Properties summary = new Properties();
+        summary.setProperty("concurrency", String.valueOf(CONCURRENCY));
+        final double seconds = DURATION.toMillis() / 1000d;
+
+        System.out.printf("%n%-8s %10s %10s %9s %9s %9s %9s %7s%n",
+                "op", "count", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Operation operation : Operation.values()) {
+            final Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    REPORT_DIR.resolve(operation.name().toLowerCase() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+
+            final String key = operation.name().toLowerCase();
+            final double throughput = histogram.getTotalCount() / seconds;
+            summary.setProperty(key + ".count", String.valueOf(histogram.getTotalCount()));
+            summary.setProperty(key + ".throughput", format(throughput));
+            summary.setProperty(key + ".p50", format(millis(histogram, 50)));
+            summary.setProperty(key + ".p90", format(millis(histogram, 90)));
+            summary.setProperty(key + ".p99", format(millis(histogram, 99)));
+            summary.setProperty(key + ".p999", format(millis(histogram, 99.9)));
+            summary.setProperty(key + ".max", format(histogram.getMaxValue() / 1000d));
+            summary.setProperty(key + ".errors", String.valueOf(errors.get(operation).sum()));
+
+            System.out.printf("%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n", key, histogram.getTotalCount(), throughput,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                    histogram.getMaxValue() / 1000d, errors.get(operation).sum());
+        }
+
+        try (Writer writer = Files.newBufferedWriter(REPORT_DIR.resolve("summary.properties"))) {
+            summary.store(writer, "load test " + CONCURRENCY + " users, " + DURATION);
+        }
+        return summary;
+    }
+
+    /**
+     * 포화된 실행(에러가 났거나 토큰 발급이 비밀번호 확인 대기 제한 시간 근처까지 밀린)을 기준으로 삼으면
+     * 허용 배율을 곱한 값이 제한 시간을 넘어 회귀를 잡지 못한다. 그런 실행은 기록하지 않는다.
+     */
+    private void writeBaseline(Properties summary) throws IOException {
+        final double saturatedMillis = properties.getPasswordEncoderTimeout().toMillis() / 4d;
+        final SoftAssertions softly = new SoftAssertions();
+        for (Operation operation : Operation.values()) {
+            final String key = operation.name().toLowerCase();
+            softly.assertThat(Long.parseLong(summary.getProperty(key + ".errors")))
+                    .as("%s errors", key).isZero();
+        }
+        softly.assertThat(Double.parseDouble(summary.getProperty("token.p99")))
+                .as("token p99(ms) of a baseline run, lower load.concurrency")
+                .isLessThan(saturatedMillis);
+        softly.assertAll();
+
+        final Properties baseline = new Properties();
+        baseline.setProperty("concurrency", summary.getProperty("concurrency"));
+        for (String key : summary.stringPropertyNames()) {
+            if (key.endsWith(".p99") || key.endsWith(".throughput")) {
+                baseline.setProperty(key, summary.getProperty(key));
+            }
+        }
+
+        Files.createDirectories(BASELINE.getParent());
+        try (Writer writer = Files.newBufferedWriter(BASELINE)) {
+            baseline.store(writer, "EventApiLoadTest baseline (p99 in ms, throughput in ops/s)");
+        }
+    }
+
+    private void compareWithBaseline(Properties summary) throws IOException {
+        Assumptions.assumeTrue(Files.exists(BASELINE), "no baseline, run with -Dload.updateBaseline=true");
+        final Properties baseline = new Properties();
+        try (var reader = Files.newBufferedReader(BASELINE)) {
+            baseline.load(reader);
+        }
+        Assumptions.assumeTrue(summary.getProperty("concurrency").equals(baseline.getProperty("concurrency")),
+                "baseline was recorded with " + baseline.getProperty("concurrency") + " users");
+
+        final SoftAssertions softly = new SoftAssertions();
+        for (Operation operation : Operation.values()) {
+            final String key = operation.name().toLowerCase();
+            softly.assertThat(Long.parseLong(summary.getProperty(key + ".errors")))
+                    .as("%s errors", key).isZero();
+            softly.assertThat(Double.parseDouble(summary.getProperty(key + ".p99")))
+                    .as("%s p99(ms)", key)
+                    .isLessThanOrEqualTo(Double.parseDouble(baseline.getProperty(key + ".p99")) * TOLERANCE);
+            softly.assertThat(Double.parseDouble(summary.getProperty(key + ".throughput")))
+                    .as("%s ops/s", key)
+                    .isGreaterThanOrEqualTo(Double.parseDouble(baseline.getProperty(key + ".throughput")) / TOLERANCE);
+        }
+        softly.assertAll();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000d;
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
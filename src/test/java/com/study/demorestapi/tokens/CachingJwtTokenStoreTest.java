@@ -0,0 +1,113 @@
+package com.study.demorestapi.tokens;
+
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountAdapter;
+import com.study.demorestapi.accounts.AccountRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtTokenStoreTest {
+
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    private JwtAccessTokenConverter converter;
+
+    private CachingJwtTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        final DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        converter = new JwtAccessTokenConverter() {
+            @Override
+            protected Map<String, Object> decode(String token) {
+                decodes.incrementAndGet();
+                return super.decode(token);
+            }
+        };
+        converter.setKeyPair(generator.generateKeyPair());
+        converter.setAccessTokenConverter(accessTokenConverter);
+        converter.afterPropertiesSet();
+
+        tokenStore = new CachingJwtTokenStore(converter, 10);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명을 검증하고 account 정보를 복원한다")
+    void verifiedOnce() {
+        final String token = issue().getValue();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(tokenStore.readAccessToken(token)).isNotNull();
+            final OAuth2Authentication authentication = tokenStore.readAuthentication(token);
+            final Account account = ((AccountAdapter) authentication.getPrincipal()).getAccount();
+            assertThat(account.getId()).isEqualTo(7);
+            assertThat(account.getRoles()).containsExactly(AccountRole.USER);
+        }
+
+        assertThat(decodes.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 거절하고 캐시하지 않는다")
+    void tampered() {
+        final String token = issue().getValue();
+        final String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA";
+
+        assertThatThrownBy(() -> tokenStore.readAuthentication(tampered)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenStore.readAuthentication(tampered)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("refresh 토큰은 저장소에 있는 동안만 유효하다")
+    void refreshTokenRevocable() {
+        final DefaultExpiringOAuth2RefreshToken refreshToken =
+                new DefaultExpiringOAuth2RefreshToken("refresh", new Date(System.currentTimeMillis() + 3_600_000));
+        tokenStore.storeRefreshToken(refreshToken, authentication());
+
+        assertThat(tokenStore.readRefreshToken("refresh")).isEqualTo(refreshToken);
+
+        tokenStore.removeRefreshToken(refreshToken);
+
+        assertThat(tokenStore.readRefreshToken("refresh")).isNull();
+    }
+
+    private OAuth2AccessToken issue() {
+        final DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken("plain");
+        token.setExpiration(new Date(System.currentTimeMillis() + 600_000));
+        return converter.enhance(token, authentication());
+    }
+
+    private static OAuth2Authentication authentication() {
+        final Account account = Account.builder().id(7).email("user@a.com").password("pass")
+                .roles(Set.of(AccountRole.USER)).build();
+        final AccountAdapter principal = new AccountAdapter(account);
+        final OAuth2Request request = new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read"),
+                Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
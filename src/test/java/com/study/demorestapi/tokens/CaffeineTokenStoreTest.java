@@ -0,0 +1,98 @@
+package com.study.demorestapi.tokens;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineTokenStoreTest {
+
+    private final CaffeineTokenStore tokenStore = new CaffeineTokenStore(10);
+
+    @Test
+    @DisplayName("access 토큰을 값, 인증, refresh 토큰으로 찾고 지운다")
+    void storeAndRemove() {
+        final OAuth2Authentication authentication = authentication("user");
+        final OAuth2RefreshToken refreshToken = new DefaultExpiringOAuth2RefreshToken("refresh", expiresIn(3600));
+        final DefaultOAuth2AccessToken accessToken = accessToken("access", expiresIn(600));
+        accessToken.setRefreshToken(refreshToken);
+
+        tokenStore.storeAccessToken(accessToken, authentication);
+        tokenStore.storeRefreshToken(refreshToken, authentication);
+
+        assertThat(tokenStore.readAccessToken("access")).isEqualTo(accessToken);
+        assertThat(tokenStore.readAuthentication("access")).isEqualTo(authentication);
+        assertThat(tokenStore.getAccessToken(authentication)).isEqualTo(accessToken);
+        assertThat(tokenStore.readAuthenticationForRefreshToken(refreshToken)).isEqualTo(authentication);
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "user")).containsExactly(accessToken);
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "other")).isEmpty();
+
+        tokenStore.removeAccessTokenUsingRefreshToken(refreshToken);
+
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.getAccessToken(authentication)).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh")).isEqualTo(refreshToken);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 조회되지 않고 만료 카운터가 올라간다")
+    void expired() throws InterruptedException {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tokenStore.bindTo(registry);
+        final OAuth2Authentication authentication = authentication("user");
+
+        tokenStore.storeAccessToken(accessToken("access", expiresIn(-1)), authentication);
+        tokenStore.storeRefreshToken(new DefaultExpiringOAuth2RefreshToken("refresh", expiresIn(-1)), authentication);
+
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.getAccessToken(authentication)).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh")).isNull();
+        assertThat(tokenStore.accessTokenCount()).isZero();
+        // removal listener 는 Caffeine executor 에서 비동기로 불린다
+        final FunctionCounter expired = registry.get("oauth2.tokens.expired").tag("type", "access").functionCounter();
+        for (int i = 0; i < 50 && expired.count() == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(expired.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 개수는 maximumSize를 넘지 않는다")
+    void bounded() {
+        for (int i = 0; i < 100; i++) {
+            tokenStore.storeAccessToken(accessToken("access" + i, expiresIn(600)), authentication("user" + i));
+        }
+
+        assertThat(tokenStore.accessTokenCount()).isLessThanOrEqualTo(10);
+        assertThat(tokenStore.findTokensByClientId("myApp")).hasSizeLessThanOrEqualTo(10);
+    }
+
+    private static DefaultOAuth2AccessToken accessToken(String value, Date expiration) {
+        final DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(value);
+        token.setExpiration(expiration);
+        return token;
+    }
+
+    private static Date expiresIn(int seconds) {
+        return new Date(System.currentTimeMillis() + seconds * 1000L);
+    }
+
+    private static OAuth2Authentication authentication(String username) {
+        final OAuth2Request request = new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read"),
+                Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
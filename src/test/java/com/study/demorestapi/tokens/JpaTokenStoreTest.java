@@ -0,0 +1,162 @@
+package com.study.demorestapi.tokens;
+
+import com.jayway.jsonpath.JsonPath;
+import com.study.demorestapi.DemoRestApiApplication;
+import com.study.demorestapi.accounts.Account;
+import com.study.demorestapi.accounts.AccountAdapter;
+import com.study.demorestapi.accounts.AccountRepository;
+import com.study.demorestapi.common.AppProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.SerializationUtils;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.Filter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 같은 H2 DB를 쓰는 노드 두 개. 두 번째 노드는 스키마를 만들지 않는다.
+ */
+class JpaTokenStoreTest {
+
+    private static final String DATABASE = "jdbc:h2:mem:shared-tokens;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("spring.jpa.hibernate.ddl-auto=create-drop");
+        nodeB = start("spring.jpa.hibernate.ddl-auto=none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    // properties() 는 application.properties 보다 우선순위가 낮아서 커맨드라인 인자로 넘긴다
+    private static ConfigurableApplicationContext start(String ddl) {
+        return new SpringApplicationBuilder(DemoRestApiApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + DATABASE,
+                        "--" + ddl,
+                        "--my-app.token-store=jdbc",
+                        "--my-app.token-near-cache-ttl=200ms",
+                        "--logging.level.org.springframework.security=INFO");
+    }
+
+    @DisplayName("한 노드에서 발급한 토큰을 다른 노드가 인증하고, 폐기는 near-cache TTL 안에 반영된다")
+    @Test
+    void sharedAcrossNodes() throws Exception {
+        final AppProperties properties = nodeA.getBean(AppProperties.class);
+        final String response = mockMvc(nodeA).perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getUserUsername())
+                .param("password", properties.getUserPassword())
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        final String accessToken = JsonPath.read(response, "$.access_token");
+
+        // 인증되면 본문 검증에서 400, 인증이 안 되면 401
+        assertThat(statusOf(nodeB, accessToken)).isEqualTo(400);
+
+        final JpaTokenStore tokenStoreA = nodeA.getBean(JpaTokenStore.class);
+        tokenStoreA.removeAccessToken(tokenStoreA.readAccessToken(accessToken));
+
+        assertThat(statusOf(nodeA, accessToken)).isEqualTo(401);
+        Thread.sleep(300);
+        assertThat(statusOf(nodeB, accessToken)).isEqualTo(401);
+    }
+
+    @DisplayName("저장된 토큰 행에는 비밀번호 해시가 없고, 읽은 principal 로 계정을 알 수 있다")
+    @Test
+    void storedWithoutCredentials() throws Exception {
+        final AppProperties properties = nodeA.getBean(AppProperties.class);
+        final String response = mockMvc(nodeA).perform(post("/oauth/token")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .param("username", properties.getUserUsername())
+                .param("password", properties.getUserPassword())
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        final String accessToken = JsonPath.read(response, "$.access_token");
+        final String refreshToken = JsonPath.read(response, "$.refresh_token");
+        final Account account = nodeA.getBean(AccountRepository.class).findByEmail(properties.getUserUsername()).orElseThrow();
+
+        final byte[] accessRow = nodeA.getBean(StoredAccessTokenRepository.class)
+                .findById(TokenHash.of(accessToken)).orElseThrow().getAuthentication();
+        final byte[] refreshRow = nodeA.getBean(StoredRefreshTokenRepository.class)
+                .findById(TokenHash.of(refreshToken)).orElseThrow().getAuthentication();
+
+        for (byte[] row : List.of(accessRow, refreshRow)) {
+            assertThat(new String(row, StandardCharsets.ISO_8859_1)).doesNotContain(account.getPassword());
+            final AccountAdapter principal = (AccountAdapter) ((OAuth2Authentication) SerializationUtils.deserialize(row))
+                    .getPrincipal();
+            assertThat(principal.getPassword()).isNull();
+            assertThat(principal.getAccount().getPassword()).isNull();
+            assertThat(principal.getAccount().getId()).isEqualTo(account.getId());
+            assertThat(principal.getAccount().getRoles()).isEqualTo(account.getRoles());
+        }
+    }
+
+    @DisplayName("만료된 토큰 행을 정리한다")
+    @Test
+    void deleteExpiredTokens() {
+        final JpaTokenStore tokenStore = nodeA.getBean(JpaTokenStore.class);
+        final StoredAccessTokenRepository repository = nodeA.getBean(StoredAccessTokenRepository.class);
+        final OAuth2Authentication authentication = new OAuth2Authentication(
+                new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read"), Set.of(), null, Set.of(), Map.of()),
+                new UsernamePasswordAuthenticationToken("user", null, List.of()));
+        for (int i = 0; i < JpaTokenStore.CLEANUP_BATCH_SIZE + 10; i++) {
+            final DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken("expired-" + i);
+            token.setExpiration(new Date(System.currentTimeMillis() - 1000));
+            tokenStore.storeAccessToken(token, authentication);
+        }
+
+        tokenStore.deleteExpiredTokens();
+
+        assertThat(repository.findExpiredIds(Instant.now(), PageRequest.of(0, 1))).isEmpty();
+        assertThat(tokenStore.readAccessToken("expired-0")).isNull();
+    }
+
+    private static int statusOf(ConfigurableApplicationContext node, String accessToken) throws Exception {
+        return mockMvc(node).perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private static MockMvc mockMvc(ConfigurableApplicationContext node) {
+        return MockMvcBuilders.webAppContextSetup((WebApplicationContext) node)
+                .addFilters(node.getBean("springSecurityFilterChain", Filter.class))
+                .build();
+    }
+}